@@ -0,0 +1,97 @@
+package gift;
+
+import gift.model.Category;
+import gift.model.CategoryRepository;
+import gift.model.Product;
+import gift.model.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    ConfigurableApplicationContext context;
+    ProductRepository productRepository;
+    CategoryRepository categoryRepository;
+    TransactionTemplate transactionTemplate;
+    EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "gift.product.cache.maximum-size=0"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        productRepository = context.getBean(ProductRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManager = context.getBean(EntityManager.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertProducts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Category category = categoryRepository.getReferenceById(1L);
+            List<Product> products = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                products.add(new Product("상품" + i, 1000 + i, "img.jpg", category));
+            }
+            productRepository.saveAll(products);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertIdentityProducts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Category category = categoryRepository.getReferenceById(1L);
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(new IdentityProduct("상품" + i, 1000 + i, "img.jpg", category));
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package gift;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.application.CursorPage;
+import gift.application.ProductResponse;
+import gift.application.ProductService;
+import gift.application.ProductSort;
+import gift.model.Product;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogueReadBenchmark {
+    private static final int PRODUCTS = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    ConfigurableApplicationContext context;
+    EntityManager entityManager;
+    TransactionTemplate transactionTemplate;
+    ProductService productService;
+    ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            rows.add(new Object[]{i, "상품" + i, i, "img.jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, price, image_url, category_id) VALUES (?, ?, ?, ?, 1)", rows);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        productService = context.getBean(ProductService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] entities() throws Exception {
+        List<Product> products = transactionTemplate.execute(status -> entityManager
+            .createQuery("select p from Product p order by p.id", Product.class)
+            .setMaxResults(PAGE_SIZE + 1)
+            .getResultList());
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] projections() throws Exception {
+        CursorPage<ProductResponse> page = productService.retrieve(null, ProductSort.ID, null, PAGE_SIZE);
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
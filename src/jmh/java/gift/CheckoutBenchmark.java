@@ -0,0 +1,112 @@
+package gift;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.application.CheckoutRequest;
+import gift.application.GiftService;
+import gift.application.GiveGiftRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CheckoutBenchmark {
+    private static final int OPTIONS = 64;
+
+    @Param({"atomic", "pessimistic", "optimistic"})
+    String strategy;
+
+    @Param({"3", "10"})
+    int items;
+
+    ConfigurableApplicationContext context;
+    GiftService giftService;
+    List<CheckoutRequest> checkouts;
+    List<List<GiveGiftRequest>> singles;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.hikari.maximum-pool-size=8",
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h",
+                "gift.stock.strategy=" + strategy,
+                "gift.stock.retry.max-attempts=100"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        jdbcTemplate.update("INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1)");
+        for (int i = 1; i <= OPTIONS; i++) {
+            jdbcTemplate.update("INSERT INTO option (id, name, quantity, product_id) VALUES (?, ?, ?, 1)", i, "옵션" + i, Integer.MAX_VALUE);
+        }
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        checkouts = new ArrayList<>();
+        singles = new ArrayList<>();
+        for (int start = 0; start < OPTIONS; start++) {
+            int offset = start;
+            List<Integer> optionIds = IntStream.range(0, items).mapToObj(i -> 1 + (offset + i) % OPTIONS).toList();
+            checkouts.add(objectMapper.readValue(
+                optionIds.stream()
+                    .map(id -> "{\"optionId\": " + id + ", \"quantity\": 1}")
+                    .collect(Collectors.joining(", ", "{\"receiverId\": 2, \"message\": \"선물\", \"items\": [", "]}")),
+                CheckoutRequest.class
+            ));
+            List<GiveGiftRequest> gifts = new ArrayList<>();
+            for (Integer id : optionIds) {
+                gifts.add(objectMapper.readValue(
+                    "{\"optionId\": " + id + ", \"quantity\": 1, \"receiverId\": 2, \"message\": \"선물\"}",
+                    GiveGiftRequest.class
+                ));
+            }
+            singles.add(gifts);
+        }
+        giftService = context.getBean(GiftService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void checkout() {
+        giftService.checkout(checkouts.get(ThreadLocalRandom.current().nextInt(OPTIONS)), 1L);
+    }
+
+    @Benchmark
+    public void sequentialGifts() {
+        for (GiveGiftRequest request : singles.get(ThreadLocalRandom.current().nextInt(OPTIONS))) {
+            giftService.give(request, 1L);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package gift;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GiftBatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    int receivers;
+
+    ConfigurableApplicationContext context;
+    HttpClient httpClient;
+    Statistics statistics;
+    URI singleUri;
+    URI batchUri;
+    List<String> singles;
+    String batchBody;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long requests;
+        public long statements;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h",
+                "gift.hibernate.statistics=true"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        jdbcTemplate.update("INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1)");
+        jdbcTemplate.update("INSERT INTO option (id, name, quantity, product_id) VALUES (1, '기본', ?, 1)", Integer.MAX_VALUE);
+        httpClient = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/gifts";
+        singleUri = URI.create(baseUrl);
+        batchUri = URI.create(baseUrl + "/batch");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        singles = IntStream.rangeClosed(1, receivers)
+            .mapToObj(i -> "{\"optionId\": 1, \"quantity\": 1, \"receiverId\": " + (i + 1) + ", \"message\": \"선물\"}")
+            .toList();
+        batchBody = IntStream.rangeClosed(1, receivers)
+            .mapToObj(i -> "{\"receiverId\": " + (i + 1) + ", \"quantity\": 1}")
+            .collect(Collectors.joining(", ", "{\"optionId\": 1, \"message\": \"선물\", \"receivers\": [", "]}"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneByOne(RoundTrips roundTrips) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        for (String body : singles) {
+            post(singleUri, body);
+        }
+        roundTrips.requests += singles.size();
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+    }
+
+    @Benchmark
+    public void batch(RoundTrips roundTrips) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        post(batchUri, batchBody);
+        roundTrips.requests++;
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+    }
+
+    private void post(URI uri, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .header("Member-Id", "1")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " " + uri);
+        }
+    }
+}
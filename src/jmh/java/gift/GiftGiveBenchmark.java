@@ -0,0 +1,82 @@
+package gift;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.application.GiftService;
+import gift.application.GiveGiftRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class GiftGiveBenchmark {
+
+    @Param({"1", "64"})
+    int options;
+
+    ConfigurableApplicationContext context;
+    GiftService giftService;
+    List<GiveGiftRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.hikari.maximum-pool-size=8",
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO member (id, name, email) VALUES (1, '보내는사람', 'sender@test.com')");
+        jdbcTemplate.update("INSERT INTO member (id, name, email) VALUES (2, '받는사람', 'receiver@test.com')");
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        jdbcTemplate.update("INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1)");
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        requests = new ArrayList<>();
+        for (int i = 1; i <= options; i++) {
+            jdbcTemplate.update("INSERT INTO option (id, name, quantity, product_id) VALUES (?, ?, ?, 1)", i, "옵션" + i, Integer.MAX_VALUE);
+            requests.add(objectMapper.readValue(
+                "{\"optionId\": " + i + ", \"quantity\": 1, \"receiverId\": 2, \"message\": \"선물\"}",
+                GiveGiftRequest.class
+            ));
+        }
+        giftService = context.getBean(GiftService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void give() {
+        giftService.give(requests.get(ThreadLocalRandom.current().nextInt(options)), 1L);
+    }
+}
@@ -0,0 +1,32 @@
+package gift;
+
+import gift.model.Category;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity
+public class IdentityProduct {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String name;
+    private int price;
+    private String imageUrl;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Category category;
+
+    protected IdentityProduct() {
+    }
+
+    public IdentityProduct(final String name, final int price, final String imageUrl, final Category category) {
+        this.name = name;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.category = category;
+    }
+}
@@ -0,0 +1,83 @@
+package gift;
+
+import gift.model.OptionStock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class OptionDecreaseBenchmark {
+
+    @Param({"atomic", "pessimistic", "optimistic"})
+    String strategy;
+
+    ConfigurableApplicationContext context;
+    OptionStock optionStock;
+    TransactionTemplate transactionTemplate;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h",
+                "gift.stock.strategy=" + strategy,
+                "spring.datasource.hikari.maximum-pool-size=16"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        jdbcTemplate.update("INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1)");
+        jdbcTemplate.update("INSERT INTO option (id, name, quantity, product_id) VALUES (1, '기본', ?, 1)", Integer.MAX_VALUE);
+        optionStock = context.getBean(OptionStock.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void decrease(Outcomes outcomes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> optionStock.decrease(1L, 1));
+            outcomes.succeeded++;
+        } catch (RuntimeException e) {
+            outcomes.failed++;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package gift;
+
+import gift.application.ProductCache;
+import gift.application.ProductResponse;
+import gift.model.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ProductLookupBenchmark {
+    private static final int PRODUCTS = 1_000;
+
+    @Param({"false", "true"})
+    boolean secondLevelCache;
+
+    ConfigurableApplicationContext context;
+    ProductRepository productRepository;
+    ProductCache productCache;
+    TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache,
+                "spring.jpa.properties.hibernate.cache.use_query_cache=" + secondLevelCache
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            rows.add(new Object[]{i, "상품" + i, i, "img.jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, price, image_url, category_id) VALUES (?, ?, ?, ?, 1)", rows);
+        productRepository = context.getBean(ProductRepository.class);
+        productCache = context.getBean(ProductCache.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponse findById() {
+        long productId = randomId();
+        return transactionTemplate.execute(status -> ProductResponse.from(productRepository.findById(productId).orElseThrow()));
+    }
+
+    @Benchmark
+    public ProductResponse findWithCategoryById() {
+        long productId = randomId();
+        return transactionTemplate.execute(status -> ProductResponse.from(productRepository.findWithCategoryById(productId).orElseThrow()));
+    }
+
+    @Benchmark
+    public ProductResponse productCache() {
+        return productCache.get(randomId()).orElseThrow();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1);
+    }
+}
@@ -0,0 +1,110 @@
+package gift;
+
+import gift.application.ProductCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMultiGetBenchmark {
+    private static final int PRODUCTS = 10_000;
+
+    @Param({"1", "10", "100"})
+    int ids;
+
+    ConfigurableApplicationContext context;
+    HttpClient httpClient;
+    String baseUrl;
+    ProductCache productCache;
+    SessionFactory sessionFactory;
+    List<URI> singles;
+    URI batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            rows.add(new Object[]{i, "상품" + i, i, "img.jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, price, image_url, category_id) VALUES (?, ?, ?, ?, 1)", rows);
+        httpClient = HttpClient.newHttpClient();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/products";
+        productCache = context.getBean(ProductCache.class);
+        sessionFactory = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+        long step = PRODUCTS / ids;
+        List<Long> productIds = LongStream.range(0, ids).map(i -> 1 + i * step).boxed().toList();
+        singles = productIds.stream().map(id -> URI.create(baseUrl + "/" + id)).toList();
+        batch = URI.create(baseUrl + "?ids=" + productIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    @Setup(Level.Invocation)
+    public void evict() {
+        productCache.invalidateAll();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void oneByOne(Blackhole blackhole) throws Exception {
+        for (URI uri : singles) {
+            blackhole.consume(get(uri));
+        }
+    }
+
+    @Benchmark
+    public String multiGet() throws Exception {
+        return get(batch);
+    }
+
+    private String get(URI uri) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " " + uri);
+        }
+        return response.body();
+    }
+}
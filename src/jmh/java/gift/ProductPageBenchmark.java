@@ -0,0 +1,79 @@
+package gift;
+
+import gift.model.Product;
+import gift.model.ProductRepository;
+import gift.model.ProductSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductPageBenchmark {
+    private static final int PRODUCTS = 200_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "1000", "9000"})
+    int page;
+
+    ConfigurableApplicationContext context;
+    ProductRepository productRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h"
+            )
+            .run();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO category (id, name) VALUES (1, '식품')");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            rows.add(new Object[]{i, "상품" + i, i % 50_000, "img.jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, price, image_url, category_id) VALUES (?, ?, ?, ?, 1)", rows);
+        productRepository = context.getBean(ProductRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductSummary> keyset() {
+        return productRepository.findPage((long) page * PAGE_SIZE, PageRequest.ofSize(PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public List<Product> offset() {
+        return productRepository.findAll(PageRequest.of(page, PAGE_SIZE, Sort.by("id"))).getContent();
+    }
+}
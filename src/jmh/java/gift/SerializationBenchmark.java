@@ -0,0 +1,79 @@
+package gift;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.application.CategoryResponse;
+import gift.application.ProductResponse;
+import gift.model.CategorySummary;
+import gift.model.ProductSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int size;
+
+    ConfigurableApplicationContext context;
+    ObjectMapper objectMapper;
+    List<CategoryResponse> categories;
+    List<ProductResponse> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "gift.outbox.poll-interval=1h",
+                "gift.outbox.purge-interval=1h"
+            )
+            .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        categories = new ArrayList<>();
+        products = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            categories.add(CategoryResponse.from(new CategorySummary(i, "카테고리" + i)));
+            products.add(ProductResponse.from(
+                new ProductSummary(i, "상품" + i, (int) i * 100, "https://example.com/" + i + ".jpg", i, "카테고리" + i)
+            ));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] categories() throws Exception {
+        return objectMapper.writeValueAsBytes(categories);
+    }
+
+    @Benchmark
+    public byte[] products() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+}
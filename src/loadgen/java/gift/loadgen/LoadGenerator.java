@@ -0,0 +1,25 @@
+package gift.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+public class LoadGenerator {
+
+    public static void main(final String[] args) throws Exception {
+        final LoadOptions options = LoadOptions.parse(args);
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<Scenario> scenarios = options.mix().entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .map(entry -> Scenario.of(entry.getKey(), entry.getValue(), options, objectMapper))
+            .toList();
+        scenarios.forEach(scenario -> scenario.request().get());
+
+        final List<ScenarioStats.Result> results = new Workload(options, scenarios).run();
+
+        final LoadReport report = LoadReport.of(options, results);
+        System.out.print(report.toText());
+        report.write(options.report());
+        System.out.println("report: " + options.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,65 @@
+package gift.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record LoadOptions(
+    URI baseUrl,
+    Model model,
+    int rate,
+    int concurrency,
+    Duration duration,
+    Duration warmup,
+    Duration timeout,
+    Map<String, Integer> mix,
+    int members,
+    int products,
+    int options,
+    Path report
+) {
+    enum Model {
+        OPEN,
+        CLOSED
+    }
+
+    static LoadOptions parse(final String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadOptions(
+            URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+            Model.valueOf(values.getOrDefault("model", "closed").toUpperCase()),
+            Integer.parseInt(values.getOrDefault("rate", "100")),
+            Integer.parseInt(values.getOrDefault("concurrency", "16")),
+            duration(values.getOrDefault("duration", "60s")),
+            duration(values.getOrDefault("warmup", "10s")),
+            duration(values.getOrDefault("timeout", "5s")),
+            mix(values.getOrDefault("mix", "products=5,categories=2,wish=2,gift=1")),
+            Integer.parseInt(values.getOrDefault("members", "1")),
+            Integer.parseInt(values.getOrDefault("products", "1")),
+            Integer.parseInt(values.getOrDefault("options", "1")),
+            Path.of(values.getOrDefault("report", "build/loadgen/report.json"))
+        );
+    }
+
+    private static Duration duration(final String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+    private static Map<String, Integer> mix(final String value) {
+        final Map<String, Integer> weights = new LinkedHashMap<>();
+        for (final String entry : value.split(",")) {
+            final String[] pair = entry.split("=");
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
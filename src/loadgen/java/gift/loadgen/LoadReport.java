@@ -0,0 +1,92 @@
+package gift.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+record LoadReport(String model, double seconds, List<Entry> scenarios, Entry total) {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    static LoadReport of(final LoadOptions options, final List<ScenarioStats.Result> results) {
+        final double seconds = options.duration().toMillis() / 1000.0;
+        final Histogram all = new Histogram(ScenarioStats.HIGHEST_TRACKABLE_MICROS, 3);
+        long errors = 0;
+        for (final ScenarioStats.Result result : results) {
+            all.add(result.histogram());
+            errors += result.errors();
+        }
+        return new LoadReport(
+            options.model().name().toLowerCase(),
+            seconds,
+            results.stream().map(result -> Entry.of(result.name(), result.histogram(), result.errors(), seconds)).toList(),
+            Entry.of("total", all, errors, seconds)
+        );
+    }
+
+    String toText() {
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format("model=%s, measured=%.1fs%n", model, seconds));
+        text.append(String.format("%-12s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "scenario", "requests", "rps", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (final Entry entry : scenarios) {
+            text.append(entry.toText());
+        }
+        text.append(total.toText());
+        return text.toString();
+    }
+
+    void write(final Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+
+    record Entry(
+        String name,
+        long requests,
+        long errors,
+        double errorRate,
+        double throughput,
+        double meanMillis,
+        Map<String, Double> percentileMillis,
+        double maxMillis
+    ) {
+        static Entry of(final String name, final Histogram histogram, final long errors, final double seconds) {
+            final long requests = histogram.getTotalCount() + errors;
+            final Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles.put(LABELS[i], millis(histogram.getValueAtPercentile(PERCENTILES[i])));
+            }
+            return new Entry(
+                name,
+                requests,
+                errors,
+                requests == 0 ? 0 : (double) errors / requests,
+                histogram.getTotalCount() / seconds,
+                histogram.getMean() / 1000.0,
+                percentiles,
+                millis(histogram.getMaxValue())
+            );
+        }
+
+        private static double millis(final long micros) {
+            return micros / 1000.0;
+        }
+
+        private String toText() {
+            return String.format("%-12s %10d %10.1f %7.2f%% %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name, requests, throughput, errorRate * 100,
+                percentileMillis.get("p50"), percentileMillis.get("p90"), percentileMillis.get("p99"),
+                percentileMillis.get("p99.9"), maxMillis);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package gift.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.application.CreateWishRequest;
+import gift.application.GiveGiftRequest;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+record Scenario(String name, int weight, Supplier<HttpRequest> request) {
+
+    static Scenario of(final String name, final int weight, final LoadOptions options, final ObjectMapper objectMapper) {
+        final URI baseUrl = options.baseUrl();
+        final Duration timeout = options.timeout();
+        return switch (name) {
+            case "gift" -> new Scenario(name, weight, () -> post(
+                baseUrl.resolve("/api/gifts"),
+                timeout,
+                random(options.members()),
+                body(objectMapper, GiveGiftRequest.class, Map.of(
+                    "optionId", random(options.options()),
+                    "quantity", 1,
+                    "receiverId", random(options.members()),
+                    "message", "부하 테스트"
+                ))
+            ));
+            case "wish" -> new Scenario(name, weight, () -> post(
+                baseUrl.resolve("/api/wishes"),
+                timeout,
+                random(options.members()),
+                body(objectMapper, CreateWishRequest.class, Map.of("productId", random(options.products())))
+            ));
+            case "products" -> new Scenario(name, weight, () -> get(baseUrl.resolve("/api/products?size=20"), timeout));
+            case "categories" -> new Scenario(name, weight, () -> get(baseUrl.resolve("/api/categories"), timeout));
+            default -> throw new IllegalArgumentException("지원하지 않는 시나리오입니다: " + name);
+        };
+    }
+
+    private static HttpRequest get(final URI uri, final Duration timeout) {
+        return HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+    }
+
+    private static HttpRequest post(final URI uri, final Duration timeout, final long memberId, final byte[] body) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .header("Member-Id", String.valueOf(memberId))
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+
+    private static byte[] body(final ObjectMapper objectMapper, final Class<?> type, final Map<String, Object> fields) {
+        try {
+            return objectMapper.writeValueAsBytes(objectMapper.convertValue(fields, type));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long random(final int count) {
+        return ThreadLocalRandom.current().nextLong(1, count + 1);
+    }
+}
@@ -0,0 +1,43 @@
+package gift.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class ScenarioStats {
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    ScenarioStats(final String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void success(final long latencyNanos) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void reset() {
+        recorder.getIntervalHistogram();
+        errors.reset();
+    }
+
+    Result result() {
+        return new Result(name, recorder.getIntervalHistogram(), errors.sum());
+    }
+
+    record Result(String name, Histogram histogram, long errors) {
+    }
+}
@@ -0,0 +1,104 @@
+package gift.loadgen;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+class Workload {
+    private final LoadOptions options;
+    private final List<Scenario> scenarios;
+    private final List<ScenarioStats> stats;
+    private final int totalWeight;
+    private final HttpClient httpClient;
+
+    Workload(final LoadOptions options, final List<Scenario> scenarios) {
+        this.options = options;
+        this.scenarios = scenarios;
+        this.stats = scenarios.stream().map(scenario -> new ScenarioStats(scenario.name())).toList();
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(options.timeout())
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    List<ScenarioStats.Result> run() throws InterruptedException {
+        final long start = System.nanoTime();
+        final long measureFrom = start + options.warmup().toNanos();
+        final long end = measureFrom + options.duration().toNanos();
+        final Thread warmup = Thread.ofVirtual().start(() -> {
+            sleepUntil(measureFrom);
+            stats.forEach(ScenarioStats::reset);
+        });
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            switch (options.model()) {
+                case OPEN -> open(executor, start, end);
+                case CLOSED -> closed(executor, end);
+            }
+        }
+        warmup.join();
+        return stats.stream().map(ScenarioStats::result).toList();
+    }
+
+    private void open(final ExecutorService executor, final long start, final long end) {
+        final long interval = 1_000_000_000L / options.rate();
+        for (long intended = start; intended < end; intended += interval) {
+            sleepUntil(intended);
+            final long scheduled = intended;
+            executor.submit(() -> send(scheduled));
+        }
+    }
+
+    private void closed(final ExecutorService executor, final long end) {
+        for (int i = 0; i < options.concurrency(); i++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < end) {
+                    send(System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private void send(final long intended) {
+        final int index = pick();
+        final HttpRequest request = scenarios.get(index).request().get();
+        final ScenarioStats scenarioStats = stats.get(index);
+        try {
+            final HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                scenarioStats.success(System.nanoTime() - intended);
+            } else {
+                scenarioStats.error();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scenarioStats.error();
+        } catch (Exception e) {
+            scenarioStats.error();
+        }
+    }
+
+    private int pick() {
+        int remaining = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < scenarios.size(); i++) {
+            remaining -= scenarios.get(i).weight();
+            if (remaining < 0) {
+                return i;
+            }
+        }
+        return scenarios.size() - 1;
+    }
+
+    private static void sleepUntil(final long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
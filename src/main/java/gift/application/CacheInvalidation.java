@@ -0,0 +1,35 @@
+package gift.application;
+
+public record CacheInvalidation(Region region, Long key) {
+    public enum Region {
+        CATEGORY,
+        PRODUCT
+    }
+
+    public static CacheInvalidation categories() {
+        return new CacheInvalidation(Region.CATEGORY, null);
+    }
+
+    public static CacheInvalidation product(final Long productId) {
+        return new CacheInvalidation(Region.PRODUCT, productId);
+    }
+
+    public static CacheInvalidation all(final Region region) {
+        return new CacheInvalidation(region, null);
+    }
+
+    public static CacheInvalidation parse(final String payload) {
+        final int separator = payload.indexOf(':');
+        if (separator < 0) {
+            return all(Region.valueOf(payload));
+        }
+        return new CacheInvalidation(
+            Region.valueOf(payload.substring(0, separator)),
+            Long.valueOf(payload.substring(separator + 1))
+        );
+    }
+
+    public String toPayload() {
+        return key == null ? region.name() : region.name() + ":" + key;
+    }
+}
@@ -0,0 +1,5 @@
+package gift.application;
+
+public interface CacheInvalidationBus {
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,14 @@
+package gift.application;
+
+import gift.model.Category;
+import gift.model.CategorySummary;
+
+public record CategoryResponse(Long id, String name) {
+    public static CategoryResponse from(final Category category) {
+        return new CategoryResponse(category.getId(), category.getName());
+    }
+
+    public static CategoryResponse from(final CategorySummary category) {
+        return new CategoryResponse(category.id(), category.name());
+    }
+}
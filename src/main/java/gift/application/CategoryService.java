@@ -1,26 +1,145 @@
 package gift.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gift.model.Category;
 import gift.model.CategoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Transactional
 @Service
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final PageProperties pageProperties;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Counter hits;
+    private final Counter misses;
+    private final SingleFlight<String, Catalogue> loads;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Catalogue catalogue;
 
-    public CategoryService(final CategoryRepository categoryRepository) {
+    public CategoryService(
+        final CategoryRepository categoryRepository,
+        final PageProperties pageProperties,
+        final ObjectMapper objectMapper,
+        final CacheInvalidationBus cacheInvalidationBus,
+        final MeterRegistry meterRegistry
+    ) {
         this.categoryRepository = categoryRepository;
+        this.pageProperties = pageProperties;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.hits = meterRegistry.counter("gift.category.cache", "result", "hit");
+        this.misses = meterRegistry.counter("gift.category.cache", "result", "miss");
+        this.loads = new SingleFlight<>("categories", meterRegistry);
     }
 
-    public Category create(final CreateCategoryRequest request) {
-        return categoryRepository.save(new Category(request.getName()));
+    public CategoryResponse create(final CreateCategoryRequest request) {
+        final Category category = categoryRepository.save(new Category(request.getName()));
+        cacheInvalidationBus.publish(CacheInvalidation.categories());
+        return CategoryResponse.from(category);
     }
 
-    public List<Category> retrieve() {
-        return categoryRepository.findAll();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CachedCategories retrieve(final String cursor, final Integer size) {
+        final Catalogue current = catalogue();
+        final int limit = pageProperties.limit(size);
+        final int from = current.position(Cursor.decode(cursor).id());
+        final byte[] json = current.json().computeIfAbsent(from + ":" + limit, key -> serialize(current.page(from, limit)));
+        return new CachedCategories(current.etag(), json);
+    }
+
+    private Catalogue catalogue() {
+        final Catalogue current = catalogue;
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        return loads.execute("catalogue", this::load);
+    }
+
+    private Catalogue load() {
+        final long loading = version.get();
+        final List<CategoryResponse> categories = categoryRepository.findAllSummaries().stream()
+            .map(CategoryResponse::from)
+            .toList();
+        final Catalogue loaded = new Catalogue(etag(categories), categories, new ConcurrentHashMap<>());
+        catalogue = loaded;
+        if (version.get() != loading) {
+            catalogue = null;
+        }
+        return loaded;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void on(final CacheInvalidation invalidation) {
+        if (invalidation.region() == CacheInvalidation.Region.CATEGORY) {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        catalogue = null;
+    }
+
+    private String etag(final List<CategoryResponse> categories) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(categories);
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] serialize(final CursorPage<CategoryResponse> page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record CachedCategories(String etag, byte[] json) {
+    }
+
+    private record Catalogue(String etag, List<CategoryResponse> categories, Map<String, byte[]> json) {
+        int position(final long after) {
+            int low = 0;
+            int high = categories.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (categories.get(middle).id() <= after) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        CursorPage<CategoryResponse> page(final int from, final int limit) {
+            final List<CategoryResponse> rows = categories.subList(from, Math.min(categories.size(), from + limit + 1));
+            return CursorPage.of(rows, limit, category -> new Cursor(category.id(), category.id()));
+        }
     }
 }
@@ -0,0 +1,34 @@
+package gift.application;
+
+import java.util.List;
+
+public class CheckoutRequest {
+    private Long receiverId;
+    private String message;
+    private List<Item> items;
+
+    public Long getReceiverId() {
+        return receiverId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public static class Item {
+        private Long optionId;
+        private int quantity;
+
+        public Long getOptionId() {
+            return optionId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -4,6 +4,7 @@ public class CreateOptionRequest {
     private String name;
     private int quantity;
     private Long productId;
+    private int shardCount;
 
     public String getName() {
         return name;
@@ -16,4 +17,8 @@ public class CreateOptionRequest {
     public Long getProductId() {
         return productId;
     }
+
+    public int getShardCount() {
+        return shardCount;
+    }
 }
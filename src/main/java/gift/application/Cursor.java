@@ -0,0 +1,24 @@
+package gift.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+record Cursor(long key, long id) {
+    static final Cursor FIRST = new Cursor(Long.MIN_VALUE, 0L);
+
+    static Cursor decode(final String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+        final String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        final int separator = decoded.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + value);
+        }
+        return new Cursor(Long.parseLong(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((key + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,14 @@
+package gift.application;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    static <T> CursorPage<T> of(final List<T> rows, final int size, final Function<T, Cursor> cursor) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        final List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursor.apply(items.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,193 @@
+package gift.application;
+
+import gift.model.Gift;
+import gift.model.GiftDelivery;
+import gift.model.GiftOutbox;
+import gift.model.GiftOutboxRepository;
+import gift.model.GiftOutboxStatus;
+import gift.model.Option;
+import gift.model.OptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class GiftDispatcher {
+    private final GiftOutboxRepository giftOutboxRepository;
+    private final OptionRepository optionRepository;
+    private final GiftDelivery giftDelivery;
+    private final GiftOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSize;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dead;
+    private final Counter purged;
+
+    public GiftDispatcher(
+        final GiftOutboxRepository giftOutboxRepository,
+        final OptionRepository optionRepository,
+        final GiftDelivery giftDelivery,
+        final GiftOutboxProperties properties,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry
+    ) {
+        this.giftOutboxRepository = giftOutboxRepository;
+        this.optionRepository = optionRepository;
+        this.giftDelivery = giftDelivery;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        TimeGauge.builder("gift.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get).register(meterRegistry);
+        this.batchSize = meterRegistry.summary("gift.outbox.batch.size");
+        this.delivered = meterRegistry.counter("gift.outbox.delivered");
+        this.retried = meterRegistry.counter("gift.outbox.retries");
+        this.dead = meterRegistry.counter("gift.outbox.dead");
+        this.purged = meterRegistry.counter("gift.outbox.purged");
+    }
+
+    @Scheduled(fixedDelayString = "${gift.outbox.poll-interval}")
+    public void dispatch() {
+        List<ClaimedGift> batch;
+        do {
+            batch = claim();
+            batchSize.record(batch.size());
+            if (!batch.isEmpty()) {
+                complete(batch, deliver(batch));
+            }
+        } while (batch.size() == properties.getBatchSize());
+    }
+
+    @Scheduled(fixedDelayString = "${gift.outbox.purge-interval}")
+    public void purge() {
+        final Instant now = Instant.now();
+        purge(GiftOutboxStatus.SENT, now.minus(properties.getSentRetention()));
+        purge(GiftOutboxStatus.DEAD, now.minus(properties.getDeadRetention()));
+    }
+
+    private void purge(final GiftOutboxStatus target, final Instant before) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                final List<Long> ids = giftOutboxRepository.findIdsByStatusCreatedBefore(
+                    target,
+                    before,
+                    PageRequest.of(0, properties.getBatchSize())
+                );
+                if (!ids.isEmpty()) {
+                    giftOutboxRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            purged.increment(deleted);
+        } while (deleted == properties.getBatchSize());
+    }
+
+    private List<ClaimedGift> claim() {
+        return transactionTemplate.execute(status -> {
+            final Instant now = Instant.now();
+            lagMillis.set(giftOutboxRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, now).toMillis())
+                .orElse(0L));
+            final List<GiftOutbox> outboxes = giftOutboxRepository.findDispatchable(
+                now,
+                PageRequest.of(0, properties.getBatchSize())
+            );
+            final Instant until = now.plus(properties.getClaimTimeout());
+            outboxes.forEach(outbox -> outbox.claim(until));
+            final Map<Long, Option> options = optionRepository.findAllWithProductByIdIn(
+                outboxes.stream().map(GiftOutbox::getOptionId).distinct().toList()
+            ).stream().collect(Collectors.toMap(Option::getId, Function.identity()));
+            return outboxes.stream()
+                .map(outbox -> new ClaimedGift(outbox.getId(), outbox.toGift(options.get(outbox.getOptionId()))))
+                .toList();
+        });
+    }
+
+    private Map<Long, Throwable> deliver(final List<ClaimedGift> batch) {
+        final boolean grouped = giftDelivery.groupsByReceiver();
+        final List<List<ClaimedGift>> groups = grouped
+            ? List.copyOf(batch.stream()
+                .collect(Collectors.groupingBy(claimed -> claimed.gift().getTo(), LinkedHashMap::new, Collectors.toList()))
+                .values())
+            : batch.stream().map(List::of).toList();
+        final Map<Long, Throwable> failures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<?>> deliveries = groups.stream()
+                .<Future<?>>map(group -> executor.submit(() -> deliver(group, grouped)))
+                .toList();
+            for (int i = 0; i < groups.size(); i++) {
+                try {
+                    deliveries.get(i).get();
+                } catch (final ExecutionException e) {
+                    fail(failures, groups.get(i), e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(failures, groups.get(i), e);
+                }
+            }
+        }
+        return failures;
+    }
+
+    private void deliver(final List<ClaimedGift> group, final boolean grouped) {
+        if (grouped) {
+            giftDelivery.deliverAll(group.stream().map(ClaimedGift::gift).toList());
+        } else {
+            giftDelivery.deliver(group.get(0).gift());
+        }
+    }
+
+    private void fail(final Map<Long, Throwable> failures, final List<ClaimedGift> group, final Throwable cause) {
+        group.forEach(claimed -> failures.put(claimed.outboxId(), cause));
+    }
+
+    private void complete(final List<ClaimedGift> batch, final Map<Long, Throwable> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final Instant now = Instant.now();
+            final List<Long> ids = batch.stream().map(ClaimedGift::outboxId).toList();
+            for (final GiftOutbox outbox : giftOutboxRepository.findAllById(ids)) {
+                final Throwable failure = failures.get(outbox.getId());
+                if (failure == null) {
+                    outbox.markSent();
+                    delivered.increment();
+                    continue;
+                }
+                outbox.markFailed(String.valueOf(failure), now.plus(backoff(outbox.getAttempts() + 1)), properties.getMaxAttempts());
+                if (outbox.getStatus() == GiftOutboxStatus.DEAD) {
+                    dead.increment();
+                } else {
+                    retried.increment();
+                }
+            }
+        });
+    }
+
+    private Duration backoff(final int attempt) {
+        final Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private record ClaimedGift(Long outboxId, Gift gift) {
+    }
+}
@@ -0,0 +1,62 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.outbox")
+public class GiftOutboxProperties {
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration sentRetention;
+    private final Duration deadRetention;
+
+    public GiftOutboxProperties(
+        int batchSize,
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        Duration claimTimeout,
+        Duration sentRetention,
+        Duration deadRetention
+    ) {
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.sentRetention = sentRetention;
+        this.deadRetention = deadRetention;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public Duration getSentRetention() {
+        return sentRetention;
+    }
+
+    public Duration getDeadRetention() {
+        return deadRetention;
+    }
+}
@@ -1,36 +1,170 @@
 package gift.application;
 
-import gift.model.Gift;
-import gift.model.GiftDelivery;
-import gift.model.Option;
-import gift.model.OptionRepository;
+import gift.model.GiftOutbox;
+import gift.model.GiftOutboxRepository;
+import gift.model.OptionStock;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
-@Transactional
 @Service
 public class GiftService {
-    private final OptionRepository optionRepository;
-    private final GiftDelivery giftDelivery;
+    private final OptionStock optionStock;
+    private final GiftOutboxRepository giftOutboxRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
 
     public GiftService(
-        final OptionRepository optionRepository,
-        final GiftDelivery giftDelivery
+        final OptionStock optionStock,
+        final GiftOutboxRepository giftOutboxRepository,
+        final OptimisticLockRetry optimisticLockRetry,
+        final TransactionTemplate transactionTemplate
     ) {
-        this.optionRepository = optionRepository;
-        this.giftDelivery = giftDelivery;
+        this.optionStock = optionStock;
+        this.giftOutboxRepository = giftOutboxRepository;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public void give(final GiveGiftRequest request, final Long memberId) {
-        final Option option = optionRepository.findById(request.getOptionId()).orElseThrow();
-        option.decrease(request.getQuantity());
-        final Gift gift = new Gift(
+        optimisticLockRetry.execute(request.getOptionId(), () -> {
+            optionStock.prefetch(request.getOptionId(), request.getQuantity());
+            transactionTemplate.executeWithoutResult(status -> giveOnce(request, memberId));
+        });
+    }
+
+    private void giveOnce(final GiveGiftRequest request, final Long memberId) {
+        optionStock.decrease(request.getOptionId(), request.getQuantity());
+        giftOutboxRepository.save(new GiftOutbox(
             memberId,
             request.getReceiverId(),
-            option,
+            request.getOptionId(),
             request.getQuantity(),
-            request.getMessage()
-        );
-        giftDelivery.deliver(gift);
+            request.getMessage(),
+            Instant.now()
+        ));
+    }
+
+    public GiveGiftsResponse giveAll(final GiveGiftsRequest request, final Long memberId) {
+        if (request.getReceivers() == null || request.getReceivers().isEmpty()) {
+            throw new IllegalArgumentException("받는 사람이 한 명 이상 있어야 합니다.");
+        }
+        final List<GiveGiftsResponse.Result> results = new ArrayList<>();
+        final List<GiveGiftsRequest.Receiver> accepted = new ArrayList<>();
+        for (final GiveGiftsRequest.Receiver receiver : request.getReceivers()) {
+            final GiveGiftsResponse.Result result = validate(receiver);
+            results.add(result);
+            if (result.accepted()) {
+                accepted.add(receiver);
+            }
+        }
+        final int total = total(accepted);
+        if (total > 0) {
+            optimisticLockRetry.execute(request.getOptionId(), () -> {
+                optionStock.prefetch(request.getOptionId(), total);
+                transactionTemplate.executeWithoutResult(status -> giveAllOnce(request, accepted, total, memberId));
+            });
+        }
+        return new GiveGiftsResponse(results);
+    }
+
+    private void giveAllOnce(
+        final GiveGiftsRequest request,
+        final List<GiveGiftsRequest.Receiver> receivers,
+        final int total,
+        final Long memberId
+    ) {
+        optionStock.decrease(request.getOptionId(), total);
+        final Instant now = Instant.now();
+        giftOutboxRepository.saveAll(receivers.stream()
+            .map(receiver -> new GiftOutbox(
+                memberId,
+                receiver.getReceiverId(),
+                request.getOptionId(),
+                receiver.getQuantity(),
+                receiver.getMessage() != null ? receiver.getMessage() : request.getMessage(),
+                now
+            ))
+            .toList());
+    }
+
+    public void checkout(final CheckoutRequest request, final Long memberId) {
+        validate(request);
+        final SortedMap<Long, Integer> quantities = quantities(request);
+        optimisticLockRetry.execute(quantities.firstKey(), () -> {
+            quantities.forEach(optionStock::prefetch);
+            transactionTemplate.executeWithoutResult(status -> checkoutOnce(request, quantities, memberId));
+        });
+    }
+
+    private void checkoutOnce(
+        final CheckoutRequest request,
+        final SortedMap<Long, Integer> quantities,
+        final Long memberId
+    ) {
+        optionStock.decreaseAll(quantities);
+        final Instant now = Instant.now();
+        giftOutboxRepository.saveAll(quantities.entrySet().stream()
+            .map(entry -> new GiftOutbox(
+                memberId,
+                request.getReceiverId(),
+                entry.getKey(),
+                entry.getValue(),
+                request.getMessage(),
+                now
+            ))
+            .toList());
+    }
+
+    private static void validate(final CheckoutRequest request) {
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문할 옵션이 한 개 이상 있어야 합니다.");
+        }
+        for (final CheckoutRequest.Item item : request.getItems()) {
+            if (item.getOptionId() == null) {
+                throw new IllegalArgumentException("옵션이 없는 주문 항목이 있습니다.");
+            }
+            if (item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("수량은 1개 이상이어야 합니다: " + item.getOptionId());
+            }
+        }
+    }
+
+    private static SortedMap<Long, Integer> quantities(final CheckoutRequest request) {
+        try {
+            return request.getItems().stream()
+                .collect(Collectors.toMap(
+                    CheckoutRequest.Item::getOptionId,
+                    CheckoutRequest.Item::getQuantity,
+                    Math::addExact,
+                    TreeMap::new
+                ));
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("한 옵션에 담을 수 있는 수량을 넘었습니다.", e);
+        }
+    }
+
+    private static int total(final List<GiveGiftsRequest.Receiver> receivers) {
+        final long total = receivers.stream().mapToLong(GiveGiftsRequest.Receiver::getQuantity).sum();
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 수량을 넘었습니다: " + total);
+        }
+        return (int) total;
+    }
+
+    private static GiveGiftsResponse.Result validate(final GiveGiftsRequest.Receiver receiver) {
+        if (receiver.getReceiverId() == null) {
+            return GiveGiftsResponse.Result.rejected(receiver, "받는 사람이 없습니다");
+        }
+        if (receiver.getQuantity() <= 0) {
+            return GiveGiftsResponse.Result.rejected(receiver, "수량은 1개 이상이어야 합니다");
+        }
+        return GiveGiftsResponse.Result.accepted(receiver);
     }
 }
@@ -0,0 +1,39 @@
+package gift.application;
+
+import java.util.List;
+
+public class GiveGiftsRequest {
+    private Long optionId;
+    private String message;
+    private List<Receiver> receivers;
+
+    public Long getOptionId() {
+        return optionId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<Receiver> getReceivers() {
+        return receivers;
+    }
+
+    public static class Receiver {
+        private Long receiverId;
+        private int quantity;
+        private String message;
+
+        public Long getReceiverId() {
+            return receiverId;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
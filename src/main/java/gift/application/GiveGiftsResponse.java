@@ -0,0 +1,15 @@
+package gift.application;
+
+import java.util.List;
+
+public record GiveGiftsResponse(List<Result> results) {
+    public record Result(Long receiverId, int quantity, boolean accepted, String reason) {
+        static Result accepted(final GiveGiftsRequest.Receiver receiver) {
+            return new Result(receiver.getReceiverId(), receiver.getQuantity(), true, null);
+        }
+
+        static Result rejected(final GiveGiftsRequest.Receiver receiver, final String reason) {
+            return new Result(receiver.getReceiverId(), receiver.getQuantity(), false, reason);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package gift.application;
+
+import gift.model.Option;
+import gift.model.StockLeaseExhaustedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class OptimisticLockRetry {
+    static final String OTHER_OPTIONS = "other";
+
+    private final StockRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+    private final Counter leaseRefills;
+
+    public OptimisticLockRetry(final StockRetryProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.leaseRefills = meterRegistry.counter("gift.stock.lease.refill.retries");
+    }
+
+    public void execute(final Long optionId, final Runnable action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                action.run();
+                return;
+            } catch (final OptimisticLockingFailureException | OptimisticLockException e) {
+                final Meters option = meters(conflictingOption(e, optionId));
+                option.conflicts().increment();
+                if (attempt >= properties.getMaxAttempts()) {
+                    option.exhausted().increment();
+                    throw e;
+                }
+                option.retries().increment();
+                sleep(backoff(attempt), e);
+            } catch (final StockLeaseExhaustedException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                leaseRefills.increment();
+            }
+        }
+    }
+
+    private static Long conflictingOption(final RuntimeException e, final Long optionId) {
+        if (e instanceof ObjectOptimisticLockingFailureException failure
+            && Option.class.getName().equals(failure.getPersistentClassName())
+            && failure.getIdentifier() instanceof Long id) {
+            return id;
+        }
+        return optionId;
+    }
+
+    private Meters meters(final Long optionId) {
+        final String tag = String.valueOf(optionId);
+        final Meters existing = meters.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        final String bounded = meters.size() < properties.getMaxTaggedOptions() ? tag : OTHER_OPTIONS;
+        return meters.computeIfAbsent(bounded, key -> new Meters(
+            meterRegistry.counter("gift.stock.conflicts", "option", key),
+            meterRegistry.counter("gift.stock.retries", "option", key),
+            meterRegistry.counter("gift.stock.retries.exhausted", "option", key)
+        ));
+    }
+
+    private long backoff(final int attempt) {
+        final long initial = properties.getInitialBackoff().toMillis();
+        final long max = properties.getMaxBackoff().toMillis();
+        final long ceiling = Math.min(max, initial << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private void sleep(final long millis, final RuntimeException cause) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private record Meters(Counter conflicts, Counter retries, Counter exhausted) {
+    }
+}
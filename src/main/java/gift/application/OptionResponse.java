@@ -0,0 +1,14 @@
+package gift.application;
+
+import gift.model.Option;
+import gift.model.OptionSummary;
+
+public record OptionResponse(Long id, String name, int quantity, Long productId) {
+    public static OptionResponse from(final Option option) {
+        return new OptionResponse(option.getId(), option.getName(), option.getQuantity(), option.getProduct().getId());
+    }
+
+    public static OptionResponse from(final OptionSummary option) {
+        return new OptionResponse(option.id(), option.name(), option.quantity(), option.productId());
+    }
+}
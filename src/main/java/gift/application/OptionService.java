@@ -2,8 +2,13 @@ package gift.application;
 
 import gift.model.Option;
 import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import gift.model.OptionStockShard;
+import gift.model.OptionStockShardRepository;
+import gift.model.OptionSummary;
 import gift.model.Product;
 import gift.model.ProductRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,18 +19,81 @@ import java.util.List;
 public class OptionService {
     private final OptionRepository optionRepository;
     private final ProductRepository productRepository;
+    private final OptionStockShardRepository optionStockShardRepository;
+    private final PageProperties pageProperties;
+    private final ProductCache productCache;
+    private final OptionStock optionStock;
+    private final StockShardProperties shardProperties;
 
-    public OptionService(OptionRepository optionRepository, ProductRepository productRepository) {
+    public OptionService(
+        OptionRepository optionRepository,
+        ProductRepository productRepository,
+        OptionStockShardRepository optionStockShardRepository,
+        PageProperties pageProperties,
+        ProductCache productCache,
+        OptionStock optionStock,
+        StockShardProperties shardProperties
+    ) {
         this.optionRepository = optionRepository;
         this.productRepository = productRepository;
+        this.optionStockShardRepository = optionStockShardRepository;
+        this.pageProperties = pageProperties;
+        this.productCache = productCache;
+        this.optionStock = optionStock;
+        this.shardProperties = shardProperties;
     }
 
-    public Option create(final CreateOptionRequest request) {
-        final Product product = productRepository.findById(request.getProductId()).orElseThrow();
-        return optionRepository.save(new Option(request.getName(), request.getQuantity(), product));
+    public OptionResponse create(final CreateOptionRequest request) {
+        validateShardCount(request.getShardCount());
+        final Product product = productRepository.getReferenceById(productCache.get(request.getProductId()).orElseThrow().id());
+        if (request.getShardCount() <= 1) {
+            return OptionResponse.from(optionRepository.save(new Option(request.getName(), request.getQuantity(), product)));
+        }
+        final Option option = optionRepository.save(new Option(request.getName(), 0, product));
+        optionStockShardRepository.saveAll(OptionStockShard.split(option, request.getQuantity(), request.getShardCount()));
+        return OptionResponse.from(option);
     }
 
-    public List<Option> retrieve() {
-        return optionRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<OptionResponse> retrieve(final Long productId, final String cursor, final Integer size) {
+        final int limit = pageProperties.limit(size);
+        final long after = Cursor.decode(cursor).id();
+        final PageRequest page = PageRequest.ofSize(limit + 1);
+        final List<OptionSummary> rows = productId == null
+            ? optionRepository.findPage(after, page)
+            : optionRepository.findPageByProduct(productId, after, page);
+        return CursorPage.of(rows.stream().map(OptionResponse::from).toList(), limit, option -> new Cursor(option.id(), option.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public int retrieveQuantity(final Long optionId) {
+        final Option option = optionRepository.findById(optionId).orElseThrow();
+        return option.getQuantity() + optionStockShardRepository.sumQuantityByOptionId(optionId).orElse(0L).intValue();
+    }
+
+    public void reshard(final Long optionId, final ReshardOptionRequest request) {
+        validateShardCount(request.getShardCount());
+        final Option option = optionRepository.findByIdForUpdate(optionId).orElseThrow();
+        final List<OptionStockShard> shards = optionStockShardRepository.findAllByOptionIdForUpdate(optionId);
+        final int quantity = option.getQuantity() + shards.stream().mapToInt(OptionStockShard::getQuantity).sum();
+        optionStockShardRepository.deleteAllInBatch(shards);
+        option.decrease(option.getQuantity());
+        if (request.getShardCount() <= 1) {
+            option.increase(quantity);
+            return;
+        }
+        optionStockShardRepository.saveAll(OptionStockShard.split(option, quantity, request.getShardCount()));
+    }
+
+    private void validateShardCount(final int shardCount) {
+        if (shardCount <= 1) {
+            return;
+        }
+        if (!optionStock.supportsShards()) {
+            throw new IllegalArgumentException("샤드 재고는 gift.stock.strategy=sharded 일 때만 쓸 수 있습니다.");
+        }
+        if (shardCount > shardProperties.getMaxCount()) {
+            throw new IllegalArgumentException("샤드는 최대 " + shardProperties.getMaxCount() + "개까지 나눌 수 있습니다.");
+        }
     }
 }
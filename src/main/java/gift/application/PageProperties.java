@@ -0,0 +1,29 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("gift.page")
+public class PageProperties {
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageProperties(int defaultSize, int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int getDefaultSize() {
+        return defaultSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int limit(final Integer size) {
+        if (size == null || size <= 0) {
+            return defaultSize;
+        }
+        return Math.min(size, maxSize);
+    }
+}
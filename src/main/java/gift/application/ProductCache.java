@@ -0,0 +1,70 @@
+package gift.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gift.model.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ProductCache {
+    private final ProductRepository productRepository;
+    private final Cache<Long, ProductResponse> cache;
+
+    public ProductCache(
+        final ProductRepository productRepository,
+        final ProductCacheProperties properties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    public Optional<ProductResponse> get(final Long productId) {
+        return Optional.ofNullable(cache.get(productId, this::load));
+    }
+
+    public Map<Long, ProductResponse> getAll(final Collection<Long> productIds) {
+        return cache.getAll(productIds, this::loadAll);
+    }
+
+    @EventListener
+    public void on(final CacheInvalidation invalidation) {
+        if (invalidation.region() != CacheInvalidation.Region.PRODUCT) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(invalidation.key());
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private ProductResponse load(final Long productId) {
+        return productRepository.findWithCategoryById(productId).map(ProductResponse::from).orElse(null);
+    }
+
+    private Map<Long, ProductResponse> loadAll(final Set<? extends Long> productIds) {
+        return productRepository.findAllSummariesByIdIn(Set.copyOf(productIds)).stream()
+            .map(ProductResponse::from)
+            .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+    }
+}
@@ -0,0 +1,24 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.product.cache")
+public class ProductCacheProperties {
+    private final long maximumSize;
+    private final Duration ttl;
+
+    public ProductCacheProperties(long maximumSize, Duration ttl) {
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
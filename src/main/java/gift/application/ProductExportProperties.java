@@ -0,0 +1,18 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.product.export")
+public class ProductExportProperties {
+    private final Duration timeout;
+
+    public ProductExportProperties(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,6 @@
+package gift.application;
+
+public enum ProductImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,28 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("gift.product.import")
+public class ProductImportProperties {
+    private final int chunkSize;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ProductImportProperties(int chunkSize, int batchSize, int maxReportedErrors) {
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+}
@@ -0,0 +1,14 @@
+package gift.application;
+
+import java.util.List;
+
+public record ProductImportResponse(
+    long imported,
+    long failed,
+    List<RowError> errors,
+    long elapsedMillis,
+    double rowsPerSecond
+) {
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,81 @@
+package gift.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record ProductImportRow(String name, Integer price, String imageUrl, Long categoryId) {
+    private static final List<String> COLUMNS = List.of("name", "price", "imageUrl", "categoryId");
+
+    static List<String> csvHeader(final String line) {
+        final List<String> header = csv(line);
+        if (!header.containsAll(COLUMNS)) {
+            throw new IllegalArgumentException("CSV 헤더에 " + COLUMNS + " 열이 모두 있어야 합니다: " + line);
+        }
+        return header;
+    }
+
+    static ProductImportRow fromCsv(final List<String> header, final String line) {
+        final List<String> values = csv(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("열 개수가 헤더와 다릅니다: " + values.size() + "/" + header.size());
+        }
+        try {
+            final String price = values.get(header.indexOf("price"));
+            final String categoryId = values.get(header.indexOf("categoryId"));
+            return new ProductImportRow(
+                values.get(header.indexOf("name")),
+                price.isBlank() ? null : Integer.valueOf(price.trim()),
+                values.get(header.indexOf("imageUrl")),
+                categoryId.isBlank() ? null : Long.valueOf(categoryId.trim())
+            );
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 값이 있습니다: " + e.getMessage());
+        }
+    }
+
+    void validate() {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("상품 이름이 없습니다");
+        }
+        if (name.length() > 255) {
+            throw new IllegalArgumentException("상품 이름은 255자를 넘을 수 없습니다");
+        }
+        if (price == null || price < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다");
+        }
+        if (categoryId == null) {
+            throw new IllegalArgumentException("카테고리가 없습니다");
+        }
+    }
+
+    private static List<String> csv(final String line) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,152 @@
+package gift.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import gift.model.Category;
+import gift.model.CategoryRepository;
+import gift.model.Product;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductImportService {
+    private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final ProductImportProperties properties;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public ProductImportService(
+        final CategoryRepository categoryRepository,
+        final EntityManager entityManager,
+        final TransactionTemplate transactionTemplate,
+        final ObjectMapper objectMapper,
+        final ProductImportProperties properties,
+        final CacheInvalidationBus cacheInvalidationBus
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.rowReader = objectMapper.readerFor(ProductImportRow.class);
+        this.properties = properties;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    public ProductImportResponse importProducts(final InputStream input, final ProductImportFormat format) {
+        final long start = System.nanoTime();
+        final Map<Long, Category> categories = categoryRepository.findAll().stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+        final Progress progress = new Progress(properties.getMaxReportedErrors());
+        final List<Pending> chunk = new ArrayList<>(properties.getChunkSize());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            List<String> header = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ProductImportFormat.CSV && header == null) {
+                    header = ProductImportRow.csvHeader(line);
+                    continue;
+                }
+                try {
+                    final ProductImportRow row = format == ProductImportFormat.CSV
+                        ? ProductImportRow.fromCsv(header, line)
+                        : rowReader.readValue(line);
+                    if (row == null) {
+                        throw new IllegalArgumentException("빈 행입니다");
+                    }
+                    row.validate();
+                    final Category category = categories.get(row.categoryId());
+                    if (category == null) {
+                        throw new IllegalArgumentException("존재하지 않는 카테고리입니다: " + row.categoryId());
+                    }
+                    chunk.add(new Pending(lineNumber, new Product(row.name(), row.price(), row.imageUrl(), category)));
+                } catch (final IllegalArgumentException e) {
+                    progress.reject(lineNumber, e.getMessage());
+                } catch (final JsonProcessingException e) {
+                    progress.reject(lineNumber, e.getOriginalMessage());
+                }
+                if (chunk.size() == properties.getChunkSize()) {
+                    write(chunk, progress);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(chunk, progress);
+        return progress.toResponse(System.nanoTime() - start);
+    }
+
+    private void write(final List<Pending> chunk, final Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                final Session session = entityManager.unwrap(Session.class);
+                session.setJdbcBatchSize(properties.getBatchSize());
+                session.setCacheMode(CacheMode.IGNORE);
+                chunk.forEach(pending -> entityManager.persist(pending.product()));
+                entityManager.flush();
+                entityManager.clear();
+                cacheInvalidationBus.publish(CacheInvalidation.all(CacheInvalidation.Region.PRODUCT));
+            });
+            progress.imported += chunk.size();
+        } catch (final RuntimeException e) {
+            chunk.forEach(pending -> progress.reject(pending.line(), "저장하지 못했습니다: " + e.getMessage()));
+        }
+        chunk.clear();
+    }
+
+    private record Pending(long line, Product product) {
+    }
+
+    private static class Progress {
+        private final int maxReportedErrors;
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Progress(final int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void reject(final long line, final String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportResponse.RowError(line, message));
+            }
+        }
+
+        ProductImportResponse toResponse(final long elapsedNanos) {
+            final double seconds = elapsedNanos / 1_000_000_000.0;
+            return new ProductImportResponse(
+                imported,
+                failed,
+                errors,
+                elapsedNanos / 1_000_000,
+                seconds == 0 ? 0 : imported / seconds
+            );
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package gift.application;
+
+import gift.model.Product;
+import gift.model.ProductSummary;
+
+public record ProductResponse(Long id, String name, int price, String imageUrl, CategoryResponse category) {
+    public static ProductResponse from(final Product product) {
+        return new ProductResponse(
+            product.getId(),
+            product.getName(),
+            product.getPrice(),
+            product.getImageUrl(),
+            CategoryResponse.from(product.getCategory())
+        );
+    }
+
+    public static ProductResponse from(final ProductSummary product) {
+        return new ProductResponse(
+            product.id(),
+            product.name(),
+            product.price(),
+            product.imageUrl(),
+            new CategoryResponse(product.categoryId(), product.categoryName())
+        );
+    }
+}
@@ -4,29 +4,112 @@ import gift.model.Category;
 import gift.model.CategoryRepository;
 import gift.model.Product;
 import gift.model.ProductRepository;
+import gift.model.ProductSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Transactional
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final PageProperties pageProperties;
+    private final ProductCache productCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final SingleFlight<PageQuery, CursorPage<ProductResponse>> pages;
 
-    public ProductService(final ProductRepository productRepository, final CategoryRepository categoryRepository) {
+    public ProductService(
+        final ProductRepository productRepository,
+        final CategoryRepository categoryRepository,
+        final PageProperties pageProperties,
+        final ProductCache productCache,
+        final CacheInvalidationBus cacheInvalidationBus,
+        final MeterRegistry meterRegistry
+    ) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.pageProperties = pageProperties;
+        this.productCache = productCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.pages = new SingleFlight<>("products", meterRegistry);
     }
 
-    public Product create(final CreateProductRequest request) {
+    public ProductResponse create(final CreateProductRequest request) {
         final Category category = categoryRepository.findById(request.getCategoryId()).orElseThrow();
         final Product product = new Product(request.getName(), request.getPrice(), request.getImageUrl(), category);
-        return productRepository.save(product);
+        final Product saved = productRepository.save(product);
+        cacheInvalidationBus.publish(CacheInvalidation.product(saved.getId()));
+        return ProductResponse.from(saved);
     }
 
-    public List<Product> retrieve() {
-        return productRepository.findAll();
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProductResponse retrieve(final Long productId) {
+        return productCache.get(productId).orElseThrow();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductResponse> retrieve(final List<Long> productIds) {
+        final LinkedHashSet<Long> distinct = new LinkedHashSet<>(productIds);
+        if (distinct.size() > pageProperties.getMaxSize()) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 " + pageProperties.getMaxSize() + "개입니다.");
+        }
+        final Map<Long, ProductResponse> products = productCache.getAll(distinct);
+        return productIds.stream()
+            .map(productId -> {
+                final ProductResponse product = products.get(productId);
+                if (product == null) {
+                    throw new NoSuchElementException("상품을 찾을 수 없습니다: " + productId);
+                }
+                return product;
+            })
+            .toList();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CursorPage<ProductResponse> retrieve(
+        final Long categoryId,
+        final ProductSort sort,
+        final String cursor,
+        final Integer size
+    ) {
+        final PageQuery query = new PageQuery(categoryId, sort, cursor, pageProperties.limit(size));
+        return pages.execute(query, () -> load(query));
+    }
+
+    private CursorPage<ProductResponse> load(final PageQuery query) {
+        final Cursor after = Cursor.decode(query.cursor());
+        final PageRequest page = PageRequest.ofSize(query.limit() + 1);
+        final List<ProductSummary> rows = switch (query.sort()) {
+            case ID -> query.categoryId() == null
+                ? productRepository.findPage(after.id(), page)
+                : productRepository.findPageByCategory(query.categoryId(), after.id(), page);
+            case PRICE -> {
+                final int price = (int) Math.max(Integer.MIN_VALUE, after.key());
+                yield query.categoryId() == null
+                    ? productRepository.findPageOrderByPrice(price, after.id(), page)
+                    : productRepository.findPageByCategoryOrderByPrice(query.categoryId(), price, after.id(), page);
+            }
+        };
+        return CursorPage.of(rows.stream().map(ProductResponse::from).toList(), query.limit(), query.sort()::cursorOf);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(final Consumer<ProductResponse> consumer) {
+        try (Stream<ProductSummary> products = productRepository.streamAll()) {
+            products.map(ProductResponse::from).forEach(consumer);
+        }
+    }
+
+    private record PageQuery(Long categoryId, ProductSort sort, String cursor, int limit) {
     }
 }
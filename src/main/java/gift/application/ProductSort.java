@@ -0,0 +1,27 @@
+package gift.application;
+
+import java.util.Arrays;
+
+public enum ProductSort {
+    ID {
+        @Override
+        Cursor cursorOf(final ProductResponse product) {
+            return new Cursor(product.id(), product.id());
+        }
+    },
+    PRICE {
+        @Override
+        Cursor cursorOf(final ProductResponse product) {
+            return new Cursor(product.price(), product.id());
+        }
+    };
+
+    abstract Cursor cursorOf(ProductResponse product);
+
+    public static ProductSort from(final String value) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.name().equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 정렬입니다: " + value));
+    }
+}
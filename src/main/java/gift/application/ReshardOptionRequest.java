@@ -0,0 +1,9 @@
+package gift.application;
+
+public class ReshardOptionRequest {
+    private int shardCount;
+
+    public int getShardCount() {
+        return shardCount;
+    }
+}
@@ -0,0 +1,36 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.stock.retry")
+public class StockRetryProperties {
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxTaggedOptions;
+
+    public StockRetryProperties(int maxAttempts, Duration initialBackoff, Duration maxBackoff, int maxTaggedOptions) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxTaggedOptions = maxTaggedOptions;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public int getMaxTaggedOptions() {
+        return maxTaggedOptions;
+    }
+}
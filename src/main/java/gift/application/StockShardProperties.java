@@ -0,0 +1,16 @@
+package gift.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("gift.stock.shard")
+public class StockShardProperties {
+    private final int maxCount;
+
+    public StockShardProperties(int maxCount) {
+        this.maxCount = maxCount;
+    }
+
+    public int getMaxCount() {
+        return maxCount;
+    }
+}
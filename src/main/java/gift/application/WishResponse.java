@@ -0,0 +1,4 @@
+package gift.application;
+
+public record WishResponse(Long id, Long memberId, ProductResponse product) {
+}
@@ -2,7 +2,6 @@ package gift.application;
 
 import gift.model.Member;
 import gift.model.MemberRepository;
-import gift.model.Product;
 import gift.model.ProductRepository;
 import gift.model.Wish;
 import gift.model.WishRepository;
@@ -15,20 +14,24 @@ public class WishService {
     private final WishRepository wishRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
 
     public WishService(
         final WishRepository wishRepository,
         final MemberRepository memberRepository,
-        final ProductRepository productRepository
+        final ProductRepository productRepository,
+        final ProductCache productCache
     ) {
         this.wishRepository = wishRepository;
         this.memberRepository = memberRepository;
         this.productRepository = productRepository;
+        this.productCache = productCache;
     }
 
-    public Wish create(final Long memberId, final CreateWishRequest request) {
+    public WishResponse create(final Long memberId, final CreateWishRequest request) {
         final Member member = memberRepository.findById(memberId).orElseThrow();
-        final Product product = productRepository.findById(request.getProductId()).orElseThrow();
-        return wishRepository.save(new Wish(member, product));
+        final ProductResponse product = productCache.get(request.getProductId()).orElseThrow();
+        final Wish wish = wishRepository.save(new Wish(member, productRepository.getReferenceById(product.id())));
+        return new WishResponse(wish.getId(), member.getId(), product);
     }
 }
@@ -0,0 +1,23 @@
+package gift.infrastructure;
+
+import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "gift.stock.strategy", havingValue = "atomic", matchIfMissing = true)
+@Component
+class AtomicOptionStock implements OptionStock {
+    private final OptionRepository optionRepository;
+
+    public AtomicOptionStock(final OptionRepository optionRepository) {
+        this.optionRepository = optionRepository;
+    }
+
+    @Override
+    public void decrease(final Long optionId, final int quantity) {
+        if (optionRepository.decreaseQuantity(optionId, quantity) == 0) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+@ConfigurationProperties("gift.cache.invalidation")
+public class CacheInvalidationProperties {
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectBackoff;
+
+    public CacheInvalidationProperties(String channel, Duration pollTimeout, Duration reconnectBackoff) {
+        if (channel == null || !CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("캐시 무효화 채널 이름은 소문자, 숫자, 밑줄로 된 63자 이하 식별자여야 합니다: " + channel);
+        }
+        this.channel = channel;
+        this.pollTimeout = pollTimeout;
+        this.reconnectBackoff = reconnectBackoff;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public Duration getReconnectBackoff() {
+        return reconnectBackoff;
+    }
+}
@@ -0,0 +1,46 @@
+package gift.infrastructure;
+
+import java.time.Duration;
+import java.time.Instant;
+
+final class CircuitBreaker {
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(final int failureThreshold, final Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    synchronized boolean tryAcquirePermission() {
+        if (openedAt == null) {
+            return true;
+        }
+        if (trialInFlight || Instant.now().isBefore(openedAt.plus(openDuration))) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        openedAt = null;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (openedAt != null || consecutiveFailures >= failureThreshold) {
+            openedAt = Instant.now();
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return openedAt != null;
+    }
+}
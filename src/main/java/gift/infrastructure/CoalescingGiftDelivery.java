@@ -0,0 +1,130 @@
+package gift.infrastructure;
+
+import gift.model.Gift;
+import gift.model.GiftDelivery;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@ConditionalOnProperty(name = "gift.delivery.coalescing.enabled", havingValue = "true")
+@Primary
+@Component
+class CoalescingGiftDelivery implements GiftDelivery {
+    private final GiftDelivery delegate;
+    private final CoalescingProperties properties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+    private final Map<Long, Batch> batches = new HashMap<>();
+    private boolean closed;
+
+    public CoalescingGiftDelivery(final GiftDelivery delegate, final CoalescingProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void deliver(final Gift gift) {
+        final Batch batch;
+        final boolean full;
+        synchronized (this) {
+            if (closed) {
+                delegate.deliver(gift);
+                return;
+            }
+            batch = batches.computeIfAbsent(gift.getTo(), this::open);
+            batch.gifts.add(gift);
+            full = batch.gifts.size() >= properties.getMaxBatchSize();
+            if (full) {
+                batches.remove(gift.getTo());
+            }
+        }
+        if (full) {
+            flush(batch);
+        }
+        await(batch);
+    }
+
+    @Override
+    public void deliverAll(final List<Gift> gifts) {
+        for (int from = 0; from < gifts.size(); from += properties.getMaxBatchSize()) {
+            delegate.deliverAll(List.copyOf(gifts.subList(from, Math.min(gifts.size(), from + properties.getMaxBatchSize()))));
+        }
+    }
+
+    @Override
+    public boolean groupsByReceiver() {
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        final List<Batch> pending;
+        synchronized (this) {
+            closed = true;
+            pending = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        scheduler.shutdownNow();
+        for (final Batch batch : pending) {
+            if (properties.isFlushOnShutdown()) {
+                flush(batch);
+            } else {
+                batch.result.completeExceptionally(new IllegalStateException("종료 중이라 전달하지 않은 선물"));
+            }
+        }
+    }
+
+    synchronized int pendingCount() {
+        return batches.values().stream().mapToInt(batch -> batch.gifts.size()).sum();
+    }
+
+    private Batch open(final Long receiverId) {
+        final Batch batch = new Batch();
+        scheduler.schedule(() -> expire(receiverId, batch), properties.getWindow().toMillis(), TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void expire(final Long receiverId, final Batch batch) {
+        synchronized (this) {
+            if (!batches.remove(receiverId, batch)) {
+                return;
+            }
+        }
+        Thread.ofVirtual().start(() -> flush(batch));
+    }
+
+    private void flush(final Batch batch) {
+        try {
+            delegate.deliverAll(List.copyOf(batch.gifts));
+            batch.result.complete(null);
+        } catch (final RuntimeException e) {
+            batch.result.completeExceptionally(e);
+        }
+    }
+
+    private void await(final Batch batch) {
+        try {
+            batch.result.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch {
+        private final List<Gift> gifts = new ArrayList<>();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,30 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.delivery.coalescing")
+public class CoalescingProperties {
+    private final Duration window;
+    private final int maxBatchSize;
+    private final boolean flushOnShutdown;
+
+    public CoalescingProperties(Duration window, int maxBatchSize, boolean flushOnShutdown) {
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.flushOnShutdown = flushOnShutdown;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public boolean isFlushOnShutdown() {
+        return flushOnShutdown;
+    }
+}
@@ -0,0 +1,120 @@
+package gift.infrastructure;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+@ConditionalOnProperty(name = "gift.datagen.enabled", havingValue = "true")
+@Component
+class DataGenerator implements ApplicationRunner {
+    private final DataSource dataSource;
+    private final DataGeneratorProperties properties;
+
+    public DataGenerator(final DataSource dataSource, final DataGeneratorProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            final boolean postgres = connection.isWrapperFor(PGConnection.class);
+            for (final SyntheticData.Table table : new SyntheticData(properties).tables()) {
+                if (!isEmpty(connection, table.name())) {
+                    throw new IllegalStateException("이미 데이터가 있는 테이블에는 생성하지 않습니다: " + table.name());
+                }
+                if (postgres) {
+                    copy(connection, table);
+                } else {
+                    insert(connection, table);
+                }
+                restartSequence(connection, table);
+                connection.commit();
+            }
+        }
+    }
+
+    private boolean isEmpty(final Connection connection, final String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+            return !resultSet.next();
+        }
+    }
+
+    private void copy(final Connection connection, final SyntheticData.Table table) throws SQLException {
+        final CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+            .copyIn("COPY " + table.name() + " (" + String.join(", ", table.columns()) + ") FROM STDIN (FORMAT csv)");
+        try {
+            final SyntheticData.Rows rows = table.rows().get();
+            final StringBuilder csv = new StringBuilder();
+            for (long id = 1; id <= table.size(); id++) {
+                appendCsv(csv, rows.row(id));
+                if (id % properties.getBatchSize() == 0 || id == table.size()) {
+                    final byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(bytes, 0, bytes.length);
+                    csv.setLength(0);
+                }
+            }
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + table.name());
+        }
+    }
+
+    private void appendCsv(final StringBuilder csv, final Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            if (row[i] instanceof String value) {
+                csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                csv.append(row[i]);
+            }
+        }
+        csv.append('\n');
+    }
+
+    private void insert(final Connection connection, final SyntheticData.Table table) throws SQLException {
+        final String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", table.columns()) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(table.columns().size(), "?")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            final SyntheticData.Rows rows = table.rows().get();
+            for (long id = 1; id <= table.size(); id++) {
+                final Object[] row = rows.row(id);
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+                if (id % properties.getBatchSize() == 0 || id == table.size()) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+    }
+
+    private void restartSequence(final Connection connection, final SyntheticData.Table table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + table.name() + "_seq RESTART WITH " + (table.size() + 1));
+        }
+    }
+}
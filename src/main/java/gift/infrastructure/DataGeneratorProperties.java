@@ -0,0 +1,67 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("gift.datagen")
+public class DataGeneratorProperties {
+    private final long seed;
+    private final int categories;
+    private final int products;
+    private final int optionsPerProduct;
+    private final int members;
+    private final long wishes;
+    private final double zipfExponent;
+    private final int batchSize;
+
+    public DataGeneratorProperties(
+        long seed,
+        int categories,
+        int products,
+        int optionsPerProduct,
+        int members,
+        long wishes,
+        double zipfExponent,
+        int batchSize
+    ) {
+        this.seed = seed;
+        this.categories = categories;
+        this.products = products;
+        this.optionsPerProduct = optionsPerProduct;
+        this.members = members;
+        this.wishes = wishes;
+        this.zipfExponent = zipfExponent;
+        this.batchSize = batchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public int getOptionsPerProduct() {
+        return optionsPerProduct;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public long getWishes() {
+        return wishes;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -6,8 +6,10 @@ import gift.model.Member;
 import gift.model.MemberRepository;
 import gift.model.Option;
 import gift.model.Product;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+@ConditionalOnProperty(name = "gift.delivery.type", havingValue = "fake", matchIfMissing = true)
 @Component
 class FakeGiftDelivery implements GiftDelivery {
     private final MemberRepository memberRepository;
@@ -0,0 +1,94 @@
+package gift.infrastructure;
+
+import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import gift.model.StockReservation;
+import gift.model.StockReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+@ConditionalOnProperty(name = "gift.stock.strategy", havingValue = "memory")
+@Component
+class InMemoryOptionStock implements OptionStock {
+    private final ConcurrentMap<Long, StripedStock> stocks = new ConcurrentHashMap<>();
+    private final OptionRepository optionRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final InMemoryStockProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public InMemoryOptionStock(
+        final OptionRepository optionRepository,
+        final StockReservationRepository stockReservationRepository,
+        final InMemoryStockProperties properties,
+        final TransactionTemplate transactionTemplate
+    ) {
+        this.optionRepository = optionRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void decrease(final Long optionId, final int quantity) {
+        final StripedStock stock = stocks.computeIfAbsent(optionId, this::load);
+        if (!stock.tryAcquire(quantity)) {
+            throw new IllegalStateException();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    stock.release(quantity);
+                }
+            }
+        });
+        stockReservationRepository.save(new StockReservation(optionId, quantity));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${gift.stock.memory.flush-interval}")
+    public void flush() {
+        int flushed;
+        do {
+            flushed = transactionTemplate.execute(status -> {
+                final List<StockReservation> reservations = stockReservationRepository
+                    .findAll(PageRequest.of(0, properties.getFlushBatchSize(), Sort.by("id")))
+                    .getContent();
+                final Map<Long, Integer> decrements = reservations.stream()
+                    .collect(Collectors.groupingBy(
+                        StockReservation::getOptionId,
+                        TreeMap::new,
+                        Collectors.summingInt(StockReservation::getQuantity)
+                    ));
+                decrements.forEach(optionRepository::subtractQuantity);
+                stockReservationRepository.deleteAllByIdInBatch(
+                    reservations.stream().map(StockReservation::getId).toList()
+                );
+                return reservations.size();
+            });
+        } while (flushed == properties.getFlushBatchSize());
+    }
+
+    void evictAll() {
+        stocks.clear();
+    }
+
+    private StripedStock load(final Long optionId) {
+        final long available = stockReservationRepository.findAvailableQuantity(optionId).orElseThrow();
+        return new StripedStock((int) available, properties.getStripes());
+    }
+}
@@ -0,0 +1,22 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("gift.stock.memory")
+public class InMemoryStockProperties {
+    private final int stripes;
+    private final int flushBatchSize;
+
+    public InMemoryStockProperties(int stripes, int flushBatchSize) {
+        this.stripes = stripes;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+}
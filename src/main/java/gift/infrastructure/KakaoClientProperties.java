@@ -0,0 +1,55 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kakao.message.client")
+public class KakaoClientProperties {
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final int maxConcurrency;
+    private final Duration bulkheadTimeout;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    public KakaoClientProperties(
+        Duration connectTimeout,
+        Duration requestTimeout,
+        int maxConcurrency,
+        Duration bulkheadTimeout,
+        int failureThreshold,
+        Duration openDuration
+    ) {
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrency = maxConcurrency;
+        this.bulkheadTimeout = bulkheadTimeout;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public Duration getBulkheadTimeout() {
+        return bulkheadTimeout;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+}
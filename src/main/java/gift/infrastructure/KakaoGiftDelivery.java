@@ -0,0 +1,145 @@
+package gift.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.model.Gift;
+import gift.model.GiftDelivery;
+import gift.model.Option;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@ConditionalOnProperty(name = "gift.delivery.type", havingValue = "kakao")
+@Component
+class KakaoGiftDelivery implements GiftDelivery {
+    private final KakaoMessageProperties messageProperties;
+    private final KakaoClientProperties clientProperties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoGiftDelivery(
+        final KakaoMessageProperties messageProperties,
+        final KakaoClientProperties clientProperties,
+        final ObjectMapper objectMapper
+    ) {
+        this.messageProperties = messageProperties;
+        this.clientProperties = clientProperties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(clientProperties.getConnectTimeout())
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.bulkhead = new Semaphore(clientProperties.getMaxConcurrency());
+        this.circuitBreaker = new CircuitBreaker(clientProperties.getFailureThreshold(), clientProperties.getOpenDuration());
+    }
+
+    @Override
+    public void deliver(final Gift gift) {
+        deliverAll(List.of(gift));
+    }
+
+    @Override
+    public void deliverAll(final List<Gift> gifts) {
+        if (!acquireBulkhead()) {
+            throw new IllegalStateException("카카오 메시지 동시 요청 한도 초과");
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new IllegalStateException("카카오 메시지 서킷 열림");
+            }
+            send(gifts);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void send(final List<Gift> gifts) {
+        final HttpResponse<String> response;
+        try {
+            response = httpClient.sendAsync(request(gifts), HttpResponse.BodyHandlers.ofString()).get();
+        } catch (final ExecutionException e) {
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("카카오 메시지 전송 실패", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("카카오 메시지 전송 중단", e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("카카오 메시지 응답 " + response.statusCode() + ": " + response.body());
+        }
+        circuitBreaker.onSuccess();
+    }
+
+    private HttpRequest request(final List<Gift> gifts) {
+        final String body = "receiver_uuids=" + encode(json(List.of(String.valueOf(gifts.get(0).getTo()))))
+            + "&template_object=" + encode(json(template(gifts)));
+        return HttpRequest.newBuilder(URI.create(messageProperties.getUrl() + "/friends/message/default/send"))
+            .timeout(clientProperties.getRequestTimeout())
+            .header("Authorization", "Bearer " + messageProperties.getToken())
+            .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private Map<String, Object> template(final List<Gift> gifts) {
+        final String text;
+        if (gifts.size() == 1) {
+            text = item(gifts.get(0)) + " 선물이 도착했어요.\n" + Objects.toString(gifts.get(0).getMessage(), "");
+        } else {
+            text = "선물 " + gifts.size() + "건이 도착했어요.\n" + gifts.stream()
+                .map(gift -> "- " + item(gift) + " " + Objects.toString(gift.getMessage(), ""))
+                .collect(Collectors.joining("\n"));
+        }
+        return Map.of(
+            "object_type", "text",
+            "text", text,
+            "link", Map.of()
+        );
+    }
+
+    private String item(final Gift gift) {
+        final Option option = gift.getOption();
+        return option.getProduct().getName() + " " + option.getName() + " " + gift.getQuantity() + "개";
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(clientProperties.getBulkheadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String json(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kakao.stub")
+public class KakaoStubProperties {
+    private final int port;
+    private final Duration latency;
+    private final double errorRate;
+
+    public KakaoStubProperties(int port, Duration latency, double errorRate) {
+        this.port = port;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+}
@@ -0,0 +1,78 @@
+package gift.infrastructure;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@ConditionalOnProperty(name = "kakao.stub.enabled", havingValue = "true")
+@Component
+class KakaoStubServer {
+    private final KakaoStubProperties properties;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private HttpServer server;
+
+    public KakaoStubServer(final KakaoStubProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(properties.getLatency().toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+            respond(exchange, 500, "{\"msg\":\"stub error\",\"code\":-500}");
+            return;
+        }
+        respond(exchange, 200, "{\"successful_receiver_uuids\":[]}");
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package gift.infrastructure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("gift.stock.lease")
+public class LeaseStockProperties {
+    private final int chunkSize;
+    private final Duration duration;
+
+    public LeaseStockProperties(int chunkSize, Duration duration) {
+        this.chunkSize = chunkSize;
+        this.duration = duration;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,129 @@
+package gift.infrastructure;
+
+import gift.application.SingleFlight;
+import gift.model.Option;
+import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import gift.model.StockLeaseExhaustedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@ConditionalOnProperty(name = "gift.stock.strategy", havingValue = "lease")
+@Component
+class LeasedOptionStock implements OptionStock {
+    private final ConcurrentMap<Long, StockLease> leases = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Integer> pendingReturns = new ConcurrentHashMap<>();
+    private final OptionRepository optionRepository;
+    private final LeaseStockProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final SingleFlight<Long, Integer> refills;
+
+    public LeasedOptionStock(
+        final OptionRepository optionRepository,
+        final LeaseStockProperties properties,
+        final PlatformTransactionManager transactionManager,
+        final MeterRegistry meterRegistry
+    ) {
+        this.optionRepository = optionRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refills = new SingleFlight<>("stock-lease", meterRegistry);
+    }
+
+    @Override
+    public void prefetch(final Long optionId, final int quantity) {
+        while (lease(optionId).remaining() < quantity) {
+            if (refills.execute(optionId, () -> refill(optionId, quantity)) == 0) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    @Override
+    public void decrease(final Long optionId, final int quantity) {
+        final StockLease lease = lease(optionId);
+        if (!lease.tryTake(quantity)) {
+            throw new StockLeaseExhaustedException(optionId);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED && !lease.add(quantity)) {
+                    pendingReturns.merge(optionId, quantity, Integer::sum);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${gift.stock.lease.check-interval}")
+    public void expire() {
+        final Instant now = Instant.now();
+        leases.forEach((optionId, lease) -> {
+            if (lease.isExpired(now)) {
+                close(optionId, lease);
+            }
+        });
+        returnPending();
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        leases.forEach(this::close);
+        returnPending();
+    }
+
+    private StockLease lease(final Long optionId) {
+        return leases.computeIfAbsent(optionId, id -> new StockLease(Instant.now().plus(properties.getDuration())));
+    }
+
+    private int refill(final Long optionId, final int quantity) {
+        final StockLease lease = lease(optionId);
+        final int leased = leaseFromDatabase(optionId, Math.max(properties.getChunkSize(), quantity - lease.remaining()));
+        if (!lease.add(leased)) {
+            returnToDatabase(optionId, leased);
+        }
+        return leased;
+    }
+
+    private void close(final Long optionId, final StockLease lease) {
+        leases.remove(optionId, lease);
+        returnToDatabase(optionId, lease.close());
+    }
+
+    private void returnPending() {
+        pendingReturns.keySet().forEach(optionId -> {
+            final Integer quantity = pendingReturns.remove(optionId);
+            if (quantity != null) {
+                returnToDatabase(optionId, quantity);
+            }
+        });
+    }
+
+    private int leaseFromDatabase(final Long optionId, final int quantity) {
+        return transactionTemplate.execute(status -> {
+            final Option option = optionRepository.findByIdForUpdate(optionId).orElseThrow();
+            final int leased = Math.min(option.getQuantity(), quantity);
+            option.decrease(leased);
+            return leased;
+        });
+    }
+
+    private void returnToDatabase(final Long optionId, final int quantity) {
+        if (quantity > 0) {
+            transactionTemplate.executeWithoutResult(status -> optionRepository.addQuantity(optionId, quantity));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package gift.infrastructure;
+
+import gift.application.CacheInvalidation;
+import gift.application.CacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ConditionalOnProperty(name = "gift.cache.invalidation.type", havingValue = "local", matchIfMissing = true)
+@Component
+class LocalCacheInvalidationBus implements CacheInvalidationBus {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LocalCacheInvalidationBus(final ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        publishAfterCommit(eventPublisher, invalidation);
+    }
+
+    static void publishAfterCommit(final ApplicationEventPublisher eventPublisher, final CacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(invalidation);
+            }
+        });
+    }
+}
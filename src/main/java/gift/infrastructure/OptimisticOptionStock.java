@@ -0,0 +1,38 @@
+package gift.infrastructure;
+
+import gift.model.Option;
+import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+
+@ConditionalOnProperty(name = "gift.stock.strategy", havingValue = "optimistic")
+@Component
+class OptimisticOptionStock implements OptionStock {
+    private final OptionRepository optionRepository;
+
+    public OptimisticOptionStock(final OptionRepository optionRepository) {
+        this.optionRepository = optionRepository;
+    }
+
+    @Override
+    public void decrease(final Long optionId, final int quantity) {
+        final Option option = optionRepository.findById(optionId).orElseThrow();
+        option.decrease(quantity);
+        optionRepository.flush();
+    }
+
+    @Override
+    public void decreaseAll(final SortedMap<Long, Integer> quantities) {
+        final List<Option> options = optionRepository.findAllByIdInOrderById(quantities.keySet());
+        if (options.size() != quantities.size()) {
+            throw new NoSuchElementException();
+        }
+        options.forEach(option -> option.decrease(quantities.get(option.getId())));
+        optionRepository.flush();
+    }
+}
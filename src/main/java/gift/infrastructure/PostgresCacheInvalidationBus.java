@@ -0,0 +1,124 @@
+package gift.infrastructure;
+
+import gift.application.CacheInvalidation;
+import gift.application.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@ConditionalOnProperty(name = "gift.cache.invalidation.type", havingValue = "postgres")
+@Component
+class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationProperties properties;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public PostgresCacheInvalidationBus(
+        final JdbcTemplate jdbcTemplate,
+        final DataSourceProperties dataSourceProperties,
+        final ApplicationEventPublisher eventPublisher,
+        final CacheInvalidationProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", properties.getChannel(), invalidation.toPayload());
+        LocalCacheInvalidationBus.publishAfterCommit(eventPublisher, invalidation);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = Thread.ofVirtual().name("cache-invalidation-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(properties.getPollTimeout().multipliedBy(2).toMillis());
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    private void listen() {
+        try {
+            while (running) {
+                try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword()
+                )) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("LISTEN " + properties.getChannel());
+                    }
+                    for (final CacheInvalidation.Region region : CacheInvalidation.Region.values()) {
+                        eventPublisher.publishEvent(CacheInvalidation.all(region));
+                    }
+                    listening = true;
+                    final PGConnection notifications = connection.unwrap(PGConnection.class);
+                    while (running) {
+                        final PGNotification[] received = notifications.getNotifications((int) properties.getPollTimeout().toMillis());
+                        if (received == null) {
+                            continue;
+                        }
+                        for (final PGNotification notification : received) {
+                            handle(notification);
+                        }
+                    }
+                } catch (final SQLException | RuntimeException e) {
+                    listening = false;
+                    if (running) {
+                        log.warn("캐시 무효화 채널 연결이 끊겨 다시 연결합니다: {}", properties.getChannel(), e);
+                        backOff();
+                    }
+                }
+            }
+        } finally {
+            listening = false;
+        }
+    }
+
+    private void handle(final PGNotification notification) {
+        try {
+            eventPublisher.publishEvent(CacheInvalidation.parse(notification.getParameter()));
+        } catch (final RuntimeException e) {
+            log.error("캐시 무효화 알림을 처리하지 못했습니다: {}", notification.getParameter(), e);
+        }
+    }
+
+    private void backOff() {
+        try {
+            Thread.sleep(properties.getReconnectBackoff());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
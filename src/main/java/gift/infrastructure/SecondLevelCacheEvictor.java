@@ -0,0 +1,33 @@
+package gift.infrastructure;
+
+import gift.application.CacheInvalidation;
+import gift.model.Category;
+import gift.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+class SecondLevelCacheEvictor {
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(final EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @EventListener
+    public void evict(final CacheInvalidation invalidation) {
+        final Class<?> entity = switch (invalidation.region()) {
+            case CATEGORY -> Category.class;
+            case PRODUCT -> Product.class;
+        };
+        if (invalidation.key() == null) {
+            cache.evictEntityData(entity);
+        } else {
+            cache.evictEntityData(entity, invalidation.key());
+        }
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -0,0 +1,70 @@
+package gift.infrastructure;
+
+import gift.model.OptionRepository;
+import gift.model.OptionStock;
+import gift.model.OptionStockShard;
+import gift.model.OptionStockShardRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@ConditionalOnProperty(name = "gift.stock.strategy", havingValue = "sharded")
+@Component
+class ShardedOptionStock implements OptionStock {
+    private final OptionRepository optionRepository;
+    private final OptionStockShardRepository optionStockShardRepository;
+
+    public ShardedOptionStock(
+        final OptionRepository optionRepository,
+        final OptionStockShardRepository optionStockShardRepository
+    ) {
+        this.optionRepository = optionRepository;
+        this.optionStockShardRepository = optionStockShardRepository;
+    }
+
+    @Override
+    public boolean supportsShards() {
+        return true;
+    }
+
+    @Override
+    public void decrease(final Long optionId, final int quantity) {
+        final List<Long> shardIds = optionStockShardRepository.findIdsByOptionId(optionId);
+        if (shardIds.isEmpty()) {
+            decreaseUnsharded(optionId, quantity);
+            return;
+        }
+        final int start = ThreadLocalRandom.current().nextInt(shardIds.size());
+        for (int i = 0; i < shardIds.size(); i++) {
+            if (optionStockShardRepository.decreaseQuantity(shardIds.get((start + i) % shardIds.size()), quantity) == 1) {
+                return;
+            }
+        }
+        decreaseAcrossShards(optionId, quantity);
+    }
+
+    private void decreaseAcrossShards(final Long optionId, final int quantity) {
+        final List<OptionStockShard> shards = optionStockShardRepository.findAllByOptionIdForUpdate(optionId);
+        if (shards.isEmpty()) {
+            decreaseUnsharded(optionId, quantity);
+            return;
+        }
+        if (shards.stream().mapToInt(OptionStockShard::getQuantity).sum() < quantity) {
+            throw new IllegalStateException();
+        }
+        int remaining = quantity;
+        for (final OptionStockShard shard : shards) {
+            final int taken = Math.min(shard.getQuantity(), remaining);
+            shard.decrease(taken);
+            remaining -= taken;
+        }
+    }
+
+    private void decreaseUnsharded(final Long optionId, final int quantity) {
+        if (optionRepository.decreaseQuantity(optionId, quantity) == 0) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package gift.infrastructure;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class StockLease {
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final Instant expiresAt;
+    private boolean closed;
+
+    StockLease(final Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    boolean tryTake(final int quantity) {
+        int current;
+        while ((current = remaining.get()) >= quantity) {
+            if (remaining.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized boolean add(final int quantity) {
+        if (closed) {
+            return false;
+        }
+        remaining.addAndGet(quantity);
+        return true;
+    }
+
+    synchronized int close() {
+        closed = true;
+        return remaining.getAndSet(0);
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    int remaining() {
+        return remaining.get();
+    }
+
+    boolean isExpired(final Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,71 @@
+package gift.infrastructure;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+final class StripedStock {
+    private final AtomicIntegerArray stripes;
+
+    StripedStock(final int quantity, final int stripeCount) {
+        this.stripes = new AtomicIntegerArray(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.set(i, quantity / stripeCount + (i < quantity % stripeCount ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(final int quantity) {
+        final int count = stripes.length();
+        final int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            if (tryAcquire((start + i) % count, quantity)) {
+                return true;
+            }
+        }
+        return tryAcquireAcrossStripes(start, quantity);
+    }
+
+    void release(final int quantity) {
+        if (quantity > 0) {
+            stripes.addAndGet(ThreadLocalRandom.current().nextInt(stripes.length()), quantity);
+        }
+    }
+
+    int available() {
+        int available = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            available += stripes.get(i);
+        }
+        return available;
+    }
+
+    private boolean tryAcquire(final int stripe, final int quantity) {
+        int current;
+        while ((current = stripes.get(stripe)) >= quantity) {
+            if (stripes.compareAndSet(stripe, current, current - quantity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryAcquireAcrossStripes(final int start, final int quantity) {
+        final int count = stripes.length();
+        int acquired = 0;
+        for (int i = 0; i < count && acquired < quantity; i++) {
+            final int stripe = (start + i) % count;
+            int current;
+            while ((current = stripes.get(stripe)) > 0) {
+                final int taken = Math.min(current, quantity - acquired);
+                if (stripes.compareAndSet(stripe, current, current - taken)) {
+                    acquired += taken;
+                    break;
+                }
+            }
+        }
+        if (acquired < quantity) {
+            release(acquired);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package gift.infrastructure;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+class SyntheticData {
+    private final DataGeneratorProperties properties;
+
+    SyntheticData(final DataGeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    List<Table> tables() {
+        final long seed = properties.getSeed();
+        final int optionsPerProduct = properties.getOptionsPerProduct();
+        return List.of(
+            new Table("category", List.of("id", "name"), properties.getCategories(), () -> id -> new Object[]{
+                id, "카테고리" + id
+            }),
+            new Table("product", List.of("id", "name", "price", "image_url", "category_id"), properties.getProducts(), () -> {
+                final SplittableRandom random = new SplittableRandom(seed);
+                final ZipfSampler categories = new ZipfSampler(properties.getCategories(), properties.getZipfExponent());
+                return id -> new Object[]{
+                    id,
+                    "상품" + id,
+                    1000 + 100 * random.nextInt(1000),
+                    "https://cdn.example.com/products/" + id + ".jpg",
+                    categories.sample(random) + 1
+                };
+            }),
+            new Table("option", List.of("id", "name", "quantity", "product_id", "version"),
+                (long) properties.getProducts() * optionsPerProduct, () -> {
+                final SplittableRandom random = new SplittableRandom(seed + 1);
+                return id -> new Object[]{
+                    id,
+                    "옵션" + ((id - 1) % optionsPerProduct + 1),
+                    random.nextInt(10_000),
+                    (id - 1) / optionsPerProduct + 1,
+                    0
+                };
+            }),
+            new Table("member", List.of("id", "name", "email"), properties.getMembers(), () -> id -> new Object[]{
+                id, "회원" + id, "member" + id + "@example.com"
+            }),
+            new Table("wish", List.of("id", "member_id", "product_id"), properties.getWishes(), () -> {
+                final SplittableRandom random = new SplittableRandom(seed + 2);
+                final ZipfSampler popularity = new ZipfSampler(properties.getProducts(), properties.getZipfExponent());
+                final int[] productByRank = shuffledIds(properties.getProducts(), new SplittableRandom(seed + 3));
+                return id -> new Object[]{
+                    id,
+                    random.nextInt(properties.getMembers()) + 1,
+                    productByRank[popularity.sample(random)]
+                };
+            })
+        );
+    }
+
+    private static int[] shuffledIds(final int size, final SplittableRandom random) {
+        final int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    record Table(String name, List<String> columns, long size, Supplier<Rows> rows) {
+    }
+
+    interface Rows {
+        Object[] row(long id);
+    }
+}
@@ -0,0 +1,25 @@
+package gift.infrastructure;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class ZipfSampler {
+    private final double[] cumulative;
+
+    ZipfSampler(final int size, final double exponent) {
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    int sample(final SplittableRandom random) {
+        final int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
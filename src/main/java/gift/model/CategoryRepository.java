@@ -1,6 +1,11 @@
 package gift.model;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @Query("select new gift.model.CategorySummary(c.id, c.name) from Category c order by c.id")
+    List<CategorySummary> findAllSummaries();
 }
@@ -0,0 +1,4 @@
+package gift.model;
+
+public record CategorySummary(Long id, String name) {
+}
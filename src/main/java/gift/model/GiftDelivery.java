@@ -1,5 +1,15 @@
 package gift.model;
 
+import java.util.List;
+
 public interface GiftDelivery {
     void deliver(Gift gift);
+
+    default void deliverAll(List<Gift> gifts) {
+        gifts.forEach(this::deliver);
+    }
+
+    default boolean groupsByReceiver() {
+        return false;
+    }
 }
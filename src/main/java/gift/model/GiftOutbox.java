@@ -0,0 +1,127 @@
+package gift.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_gift_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_gift_outbox_status_created_at", columnList = "status, created_at")
+})
+public class GiftOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gift_outbox_seq")
+    @SequenceGenerator(name = "gift_outbox_seq", sequenceName = "gift_outbox_seq", allocationSize = Sequences.ALLOCATION_SIZE)
+    private Long id;
+    private Long senderId;
+    private Long receiverId;
+    private Long optionId;
+    private int quantity;
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private GiftOutboxStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private Instant createdAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    protected GiftOutbox() {
+    }
+
+    public GiftOutbox(
+        final Long senderId,
+        final Long receiverId,
+        final Long optionId,
+        final int quantity,
+        final String message,
+        final Instant createdAt
+    ) {
+        this.senderId = senderId;
+        this.receiverId = receiverId;
+        this.optionId = optionId;
+        this.quantity = quantity;
+        this.message = message;
+        this.status = GiftOutboxStatus.PENDING;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public void claim(final Instant until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void markSent() {
+        this.status = GiftOutboxStatus.SENT;
+        this.lastError = null;
+    }
+
+    public void markFailed(final String error, final Instant nextAttemptAt, final int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) {
+            this.status = GiftOutboxStatus.DEAD;
+        }
+    }
+
+    public Gift toGift(final Option option) {
+        return new Gift(senderId, receiverId, option, quantity, message);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public Long getReceiverId() {
+        return receiverId;
+    }
+
+    public Long getOptionId() {
+        return optionId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public GiftOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
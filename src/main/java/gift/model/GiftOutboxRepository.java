@@ -0,0 +1,32 @@
+package gift.model;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface GiftOutboxRepository extends JpaRepository<GiftOutbox, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from GiftOutbox o where o.status = gift.model.GiftOutboxStatus.PENDING "
+        + "and o.nextAttemptAt <= :now order by o.id")
+    List<GiftOutbox> findDispatchable(@Param("now") Instant now, Pageable pageable);
+
+    @Query("select min(o.createdAt) from GiftOutbox o where o.status = gift.model.GiftOutboxStatus.PENDING")
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    @Query("select o.id from GiftOutbox o where o.status = :status and o.createdAt < :before order by o.createdAt")
+    List<Long> findIdsByStatusCreatedBefore(
+        @Param("status") GiftOutboxStatus status,
+        @Param("before") Instant before,
+        Pageable pageable
+    );
+}
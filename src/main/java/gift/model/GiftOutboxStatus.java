@@ -0,0 +1,7 @@
+package gift.model;
+
+public enum GiftOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
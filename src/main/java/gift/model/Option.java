@@ -1,22 +1,34 @@
 package gift.model;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_option_product_id", columnList = "product_id, id"))
 public class Option {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq")
+    @SequenceGenerator(name = "option_seq", sequenceName = "option_seq", allocationSize = Sequences.ALLOCATION_SIZE)
     private Long id;
     private String name;
     private int quantity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     protected Option() {
     }
 
@@ -38,6 +50,10 @@ public class Option {
         this.quantity -= quantity;
     }
 
+    public void increase(final int quantity) {
+        this.quantity += quantity;
+    }
+
     public Long getId() {
         return id;
     }
@@ -1,6 +1,50 @@
 package gift.model;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface OptionRepository extends JpaRepository<Option, Long> {
+    @Modifying
+    @Query("update Option o set o.quantity = o.quantity - :quantity, o.version = o.version + 1 "
+        + "where o.id = :id and o.quantity >= :quantity")
+    int decreaseQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Option o set o.quantity = o.quantity - :quantity, o.version = o.version + 1 where o.id = :id")
+    int subtractQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Option o set o.quantity = o.quantity + :quantity, o.version = o.version + 1 where o.id = :id")
+    int addQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Option o where o.id = :id")
+    Optional<Option> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select o from Option o join fetch o.product where o.id in :ids")
+    List<Option> findAllWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select o from Option o where o.id in :ids order by o.id")
+    List<Option> findAllByIdInOrderById(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Option o where o.id in :ids order by o.id")
+    List<Option> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select new gift.model.OptionSummary(o.id, o.name, o.quantity, o.product.id) "
+        + "from Option o where o.id > :id order by o.id")
+    List<OptionSummary> findPage(@Param("id") long id, Pageable pageable);
+
+    @Query("select new gift.model.OptionSummary(o.id, o.name, o.quantity, o.product.id) "
+        + "from Option o where o.product.id = :productId and o.id > :id order by o.id")
+    List<OptionSummary> findPageByProduct(@Param("productId") Long productId, @Param("id") long id, Pageable pageable);
 }
@@ -0,0 +1,18 @@
+package gift.model;
+
+import java.util.SortedMap;
+
+public interface OptionStock {
+    default void prefetch(Long optionId, int quantity) {
+    }
+
+    default boolean supportsShards() {
+        return false;
+    }
+
+    void decrease(Long optionId, int quantity);
+
+    default void decreaseAll(SortedMap<Long, Integer> quantities) {
+        quantities.forEach(this::decrease);
+    }
+}
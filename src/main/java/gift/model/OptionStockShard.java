@@ -0,0 +1,59 @@
+package gift.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+public class OptionStockShard {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_stock_shard_seq")
+    @SequenceGenerator(name = "option_stock_shard_seq", sequenceName = "option_stock_shard_seq", allocationSize = Sequences.ALLOCATION_SIZE)
+    private Long id;
+    private int quantity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Option option;
+
+    protected OptionStockShard() {
+    }
+
+    public OptionStockShard(final Option option, final int quantity) {
+        this.option = option;
+        this.quantity = quantity;
+    }
+
+    public static List<OptionStockShard> split(final Option option, final int quantity, final int shardCount) {
+        final List<OptionStockShard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new OptionStockShard(option, quantity / shardCount + (i < quantity % shardCount ? 1 : 0)));
+        }
+        return shards;
+    }
+
+    public void decrease(final int quantity) {
+        if (this.quantity < quantity) {
+            throw new IllegalStateException();
+        }
+        this.quantity -= quantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Option getOption() {
+        return option;
+    }
+}
@@ -0,0 +1,27 @@
+package gift.model;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OptionStockShardRepository extends JpaRepository<OptionStockShard, Long> {
+    @Query("select s.id from OptionStockShard s where s.option.id = :optionId order by s.id")
+    List<Long> findIdsByOptionId(@Param("optionId") Long optionId);
+
+    @Modifying
+    @Query("update OptionStockShard s set s.quantity = s.quantity - :quantity where s.id = :id and s.quantity >= :quantity")
+    int decreaseQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from OptionStockShard s where s.option.id = :optionId order by s.id")
+    List<OptionStockShard> findAllByOptionIdForUpdate(@Param("optionId") Long optionId);
+
+    @Query("select sum(s.quantity) from OptionStockShard s where s.option.id = :optionId")
+    Optional<Long> sumQuantityByOptionId(@Param("optionId") Long optionId);
+}
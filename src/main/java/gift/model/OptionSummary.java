@@ -0,0 +1,4 @@
+package gift.model;
+
+public record OptionSummary(Long id, String name, int quantity, Long productId) {
+}
@@ -1,6 +1,48 @@
 package gift.model;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+    String SELECT_SUMMARY = "select new gift.model.ProductSummary(p.id, p.name, p.price, p.imageUrl, c.id, c.name) "
+        + "from Product p join p.category c ";
+
+    @EntityGraph(attributePaths = "category")
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    Optional<Product> findWithCategoryById(Long id);
+
+    @Query(SELECT_SUMMARY + "where p.id in :ids")
+    List<ProductSummary> findAllSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_SUMMARY + "where p.id > :id order by p.id")
+    List<ProductSummary> findPage(@Param("id") long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where c.id = :categoryId and p.id > :id order by p.id")
+    List<ProductSummary> findPageByCategory(@Param("categoryId") Long categoryId, @Param("id") long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "where p.price >= :price and (p.price > :price or p.id > :id) order by p.price, p.id")
+    List<ProductSummary> findPageOrderByPrice(@Param("price") int price, @Param("id") long id, Pageable pageable);
+
+    @Query(SELECT_SUMMARY
+        + "where c.id = :categoryId and p.price >= :price and (p.price > :price or p.id > :id) order by p.price, p.id")
+    List<ProductSummary> findPageByCategoryOrderByPrice(
+        @Param("categoryId") Long categoryId,
+        @Param("price") int price,
+        @Param("id") long id,
+        Pageable pageable
+    );
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(SELECT_SUMMARY + "order by p.id")
+    Stream<ProductSummary> streamAll();
 }
@@ -0,0 +1,4 @@
+package gift.model;
+
+public record ProductSummary(Long id, String name, int price, String imageUrl, Long categoryId, String categoryName) {
+}
@@ -0,0 +1,8 @@
+package gift.model;
+
+public final class Sequences {
+    public static final int ALLOCATION_SIZE = 50;
+
+    private Sequences() {
+    }
+}
@@ -0,0 +1,9 @@
+package gift.model;
+
+import org.springframework.dao.TransientDataAccessException;
+
+public class StockLeaseExhaustedException extends TransientDataAccessException {
+    public StockLeaseExhaustedException(final Long optionId) {
+        super("임대 재고가 다른 요청에 먼저 소진되었습니다: " + optionId);
+    }
+}
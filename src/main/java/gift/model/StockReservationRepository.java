@@ -0,0 +1,13 @@
+package gift.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    @Query("select o.quantity - coalesce((select sum(r.quantity) from StockReservation r where r.optionId = o.id), 0) "
+        + "from Option o where o.id = :optionId")
+    Optional<Long> findAvailableQuantity(@Param("optionId") Long optionId);
+}
@@ -1,11 +1,12 @@
 package gift.ui;
 
+import gift.application.CategoryResponse;
 import gift.application.CategoryService;
 import gift.application.CreateCategoryRequest;
-import gift.model.Category;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping("/api/categories")
 @RestController
@@ -17,12 +18,23 @@ public class CategoryRestController {
     }
 
     @PostMapping
-    public Category create(@RequestBody final CreateCategoryRequest request) {
+    public CategoryResponse create(@RequestBody final CreateCategoryRequest request) {
         return categoryService.create(request);
     }
 
     @GetMapping
-    public List<Category> retrieve() {
-        return categoryService.retrieve();
+    public ResponseEntity<byte[]> retrieve(
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(required = false) final Integer size,
+        final WebRequest webRequest
+    ) {
+        final CategoryService.CachedCategories categories = categoryService.retrieve(cursor, size);
+        if (webRequest.checkNotModified(categories.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(categories.etag())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(categories.json());
     }
 }
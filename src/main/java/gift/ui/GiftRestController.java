@@ -1,7 +1,10 @@
 package gift.ui;
 
+import gift.application.CheckoutRequest;
 import gift.application.GiftService;
 import gift.application.GiveGiftRequest;
+import gift.application.GiveGiftsRequest;
+import gift.application.GiveGiftsResponse;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -17,4 +20,14 @@ public class GiftRestController {
     public void give(@RequestBody GiveGiftRequest request, @RequestHeader("Member-Id") Long memberId) {
         giftService.give(request, memberId);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/batch")
+    public GiveGiftsResponse giveAll(@RequestBody GiveGiftsRequest request, @RequestHeader("Member-Id") Long memberId) {
+        return giftService.giveAll(request, memberId);
+    }
+
+    @PostMapping("/checkout")
+    public void checkout(@RequestBody CheckoutRequest request, @RequestHeader("Member-Id") Long memberId) {
+        giftService.checkout(request, memberId);
+    }
+}
@@ -0,0 +1,36 @@
+package gift.ui;
+
+import gift.application.CursorPage;
+import gift.application.OptionResponse;
+import gift.application.OptionService;
+import gift.application.ReshardOptionRequest;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/options")
+public class OptionRestController {
+    private final OptionService optionService;
+
+    public OptionRestController(final OptionService optionService) {
+        this.optionService = optionService;
+    }
+
+    @GetMapping
+    public CursorPage<OptionResponse> retrieve(
+        @RequestParam(required = false) final Long productId,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        return optionService.retrieve(productId, cursor, size);
+    }
+
+    @GetMapping("/{optionId}/quantity")
+    public int retrieveQuantity(@PathVariable final Long optionId) {
+        return optionService.retrieveQuantity(optionId);
+    }
+
+    @PutMapping("/{optionId}/shards")
+    public void reshard(@PathVariable final Long optionId, @RequestBody final ReshardOptionRequest request) {
+        optionService.reshard(optionId, request);
+    }
+}
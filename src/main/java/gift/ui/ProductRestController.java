@@ -1,28 +1,115 @@
 package gift.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import gift.application.CreateProductRequest;
+import gift.application.CursorPage;
+import gift.application.ProductExportProperties;
+import gift.application.ProductImportFormat;
+import gift.application.ProductImportResponse;
+import gift.application.ProductImportService;
+import gift.application.ProductResponse;
 import gift.application.ProductService;
-import gift.model.Product;
+import gift.application.ProductSort;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RequestMapping("/api/products")
 @RestController
 public class ProductRestController {
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+        final ProductService productService,
+        final ProductImportService productImportService,
+        final ProductExportProperties exportProperties,
+        final ObjectMapper objectMapper
+    ) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.exportProperties = exportProperties;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
-    public Product create(@RequestBody final CreateProductRequest request) {
+    public ProductResponse create(@RequestBody final CreateProductRequest request) {
         return productService.create(request);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ProductImportResponse importCsv(final InputStream body) {
+        return productImportService.importProducts(body, ProductImportFormat.CSV);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ProductImportResponse importLines(final InputStream body) {
+        return productImportService.importProducts(body, ProductImportFormat.NDJSON);
+    }
+
     @GetMapping
-    public List<Product> retrieve() {
-        return productService.retrieve();
+    public CursorPage<ProductResponse> retrieve(
+        @RequestParam(required = false) final Long categoryId,
+        @RequestParam(defaultValue = "id") final String sort,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        return productService.retrieve(categoryId, ProductSort.from(sort), cursor, size);
+    }
+
+    @GetMapping(params = "ids")
+    public List<ProductResponse> retrieve(@RequestParam final List<Long> ids) {
+        return productService.retrieve(ids);
+    }
+
+    @GetMapping("/{productId}")
+    public ProductResponse retrieve(@PathVariable final Long productId) {
+        return productService.retrieve(productId);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> exportLines(final HttpServletResponse response) {
+        return export(response, "application/x-ndjson", objectMapper.writer().withRootValueSeparator("\n"), false);
+    }
+
+    @GetMapping(value = "/export", params = "format=json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public WebAsyncTask<Void> exportArray(final HttpServletResponse response) {
+        return export(response, MediaType.APPLICATION_JSON_VALUE, objectMapper.writer(), true);
+    }
+
+    private WebAsyncTask<Void> export(
+        final HttpServletResponse response,
+        final String contentType,
+        final ObjectWriter writer,
+        final boolean array
+    ) {
+        response.setContentType(contentType);
+        return new WebAsyncTask<>(exportProperties.getTimeout().toMillis(), () -> {
+            write(response.getOutputStream(), writer, array);
+            return null;
+        });
+    }
+
+    private void write(final OutputStream out, final ObjectWriter writer, final boolean array) throws IOException {
+        try (SequenceWriter values = array ? writer.writeValuesAsArray(out) : writer.writeValues(out)) {
+            productService.export(product -> {
+                try {
+                    values.write(product);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 }
@@ -1,8 +1,8 @@
 package gift.ui;
 
 import gift.application.CreateWishRequest;
+import gift.application.WishResponse;
 import gift.application.WishService;
-import gift.model.Wish;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -15,7 +15,7 @@ public class WishRestController {
     }
 
     @PostMapping
-    public Wish create(@RequestBody CreateWishRequest request, @RequestHeader("Member-Id") Long memberId) {
+    public WishResponse create(@RequestBody CreateWishRequest request, @RequestHeader("Member-Id") Long memberId) {
         return wishService.create(memberId, request);
     }
 }
@@ -0,0 +1,38 @@
+-- IDENTITY 컬럼을 풀링 시퀀스(pooled-lo, INCREMENT BY 50)로 전환한다.
+-- 애플리케이션을 멈춘 상태에서 한 트랜잭션으로 실행하고, 새 버전을 띄운다.
+-- INCREMENT BY는 gift.model.Sequences.ALLOCATION_SIZE와 같아야 한다.
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('category_seq', COALESCE((SELECT MAX(id) FROM category), 0) + 1, false);
+ALTER TABLE category ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('product_seq', COALESCE((SELECT MAX(id) FROM product), 0) + 1, false);
+ALTER TABLE product ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS option_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('option_seq', COALESCE((SELECT MAX(id) FROM option), 0) + 1, false);
+ALTER TABLE option ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('member_seq', COALESCE((SELECT MAX(id) FROM member), 0) + 1, false);
+ALTER TABLE member ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS wish_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('wish_seq', COALESCE((SELECT MAX(id) FROM wish), 0) + 1, false);
+ALTER TABLE wish ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS gift_outbox_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('gift_outbox_seq', COALESCE((SELECT MAX(id) FROM gift_outbox), 0) + 1, false);
+ALTER TABLE gift_outbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS option_stock_shard_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('option_stock_shard_seq', COALESCE((SELECT MAX(id) FROM option_stock_shard), 0) + 1, false);
+ALTER TABLE option_stock_shard ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS stock_reservation_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('stock_reservation_seq', COALESCE((SELECT MAX(id) FROM stock_reservation), 0) + 1, false);
+ALTER TABLE stock_reservation ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+COMMIT;
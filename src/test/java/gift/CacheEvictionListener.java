@@ -0,0 +1,30 @@
+package gift;
+
+import gift.application.CategoryService;
+import gift.application.ProductCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+public class CacheEvictionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestMethod(final TestContext testContext) {
+        evictAll(testContext.getApplicationContext());
+    }
+
+    public static void evictAll(final ApplicationContext context) {
+        context.getBeanProvider(EntityManagerFactory.class)
+            .ifAvailable(factory -> factory.unwrap(SessionFactory.class).getCache().evictAllRegions());
+        context.getBeanProvider(ProductCache.class).ifAvailable(ProductCache::invalidateAll);
+        context.getBeanProvider(CategoryService.class).ifAvailable(CategoryService::invalidate);
+    }
+}
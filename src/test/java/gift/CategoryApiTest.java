@@ -1,5 +1,6 @@
 package gift;
 
+import gift.application.CategoryService;
 import gift.model.Category;
 import gift.model.CategoryRepository;
 import io.restassured.RestAssured;
@@ -14,6 +15,10 @@ import org.springframework.test.context.jdbc.Sql;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class CategoryApiTest {
@@ -24,12 +29,15 @@ class CategoryApiTest {
     @Autowired
     CategoryRepository categoryRepository;
 
+    @Autowired
+    CategoryService categoryService;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 카테고리_생성_성공() {
         RestAssured.given()
@@ -47,4 +55,90 @@ class CategoryApiTest {
         List<Category> categories = categoryRepository.findAll();
         assertThat(categories).anyMatch(c -> c.getName().equals("뷰티"));
     }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 카테고리_목록을_커서로_페이지_조회한다() {
+        String cursor = RestAssured.given()
+            .queryParam("size", 1)
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(200)
+            .body("items.name", contains("식품"))
+            .extract()
+            .path("nextCursor");
+
+        RestAssured.given()
+            .queryParam("size", 1)
+            .queryParam("cursor", cursor)
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(200)
+            .body("items.name", contains("패션"))
+            .body("nextCursor", nullValue());
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 카테고리가_바뀌지_않았으면_304를_주고_생성되면_새_목록을_준다() {
+        String etag = RestAssured.given()
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract()
+            .header("ETag");
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(304);
+
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "name": "뷰티"
+                }
+                """)
+        .when()
+            .post("/api/categories")
+        .then()
+            .statusCode(200);
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(200)
+            .header("ETag", not(etag))
+            .body("items.name", contains("식품", "패션", "뷰티"));
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 카테고리가_같으면_캐시를_다시_적재해도_ETag가_같다() {
+        String etag = RestAssured.given()
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+        categoryService.invalidate();
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/api/categories")
+        .then()
+            .statusCode(304);
+    }
 }
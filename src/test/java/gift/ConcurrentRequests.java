@@ -0,0 +1,76 @@
+package gift;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+public final class ConcurrentRequests {
+    public static final String ONE_GIFT = """
+        {
+            "optionId": 1,
+            "quantity": 1,
+            "receiverId": 2,
+            "message": "선물"
+        }
+        """;
+
+    private static final List<String> CHECKOUT_ORDERS = List.of("1, 2, 3", "3, 2, 1", "2, 3, 1", "1, 3, 2");
+
+    private ConcurrentRequests() {
+    }
+
+    public static HttpRequest checkoutInShuffledOrder(final int port, final int index) {
+        final String[] ids = CHECKOUT_ORDERS.get(index % CHECKOUT_ORDERS.size()).split(", ");
+        return post(port, "/api/gifts/checkout", """
+            {
+                "receiverId": 2,
+                "message": "선물",
+                "items": [
+                    {"optionId": %s, "quantity": 1},
+                    {"optionId": %s, "quantity": 1},
+                    {"optionId": %s, "quantity": 1}
+                ]
+            }
+            """.formatted(ids[0], ids[1], ids[2]));
+    }
+
+    public static HttpRequest post(final int port, final String path, final String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json")
+            .header("Member-Id", "1")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    public static int succeeded(
+        final int threads,
+        final int requests,
+        final IntFunction<HttpRequest> request
+    ) throws Exception {
+        final HttpClient client = HttpClient.newHttpClient();
+        final List<Future<Integer>> statusCodes = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < requests; i++) {
+                final HttpRequest next = request.apply(i);
+                statusCodes.add(executor.submit(() -> client.send(next, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            int succeeded = 0;
+            for (final Future<Integer> statusCode : statusCodes) {
+                if (statusCode.get() == 200) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package gift;
 
+import gift.model.GiftOutboxRepository;
 import gift.model.Option;
 import gift.model.OptionRepository;
 import io.restassured.RestAssured;
@@ -11,9 +12,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.notNullValue;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = QueryCounter.PROPERTY)
 class GiftApiTest {
 
     @LocalServerPort
@@ -22,13 +29,16 @@ class GiftApiTest {
     @Autowired
     OptionRepository optionRepository;
 
+    @Autowired
+    GiftOutboxRepository giftOutboxRepository;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
+        QueryCounter.reset();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/gift/success.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
     @Test
     void 선물_보내기_성공() {
         RestAssured.given()
@@ -47,12 +57,13 @@ class GiftApiTest {
         .then()
             .statusCode(200);
 
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
         Option updated = optionRepository.findById(1L).orElseThrow();
         assertThat(updated.getQuantity()).isEqualTo(7);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/gift/exact-quantity.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/exact-quantity.sql"})
     @Test
     void 재고와_요청_수량이_같으면_재고가_0이_된다() {
         RestAssured.given()
@@ -75,8 +86,26 @@ class GiftApiTest {
         assertThat(updated.getQuantity()).isEqualTo(0);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/gift/insufficient-stock.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 샤드_전략이_아니면_옵션_재고를_샤드로_나눌_수_없다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "shardCount": 4
+                }
+                """)
+        .when()
+            .put("/api/options/1/shards")
+        .then()
+            .statusCode(500);
+
+        Option unchanged = optionRepository.findById(1L).orElseThrow();
+        assertThat(unchanged.getQuantity()).isEqualTo(10);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/insufficient-stock.sql"})
     @Test
     void 재고_부족_시_실패한다() {
         RestAssured.given()
@@ -95,11 +124,13 @@ class GiftApiTest {
         .then()
             .statusCode(500);
 
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
         Option unchanged = optionRepository.findById(1L).orElseThrow();
         assertThat(unchanged.getQuantity()).isEqualTo(2);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 존재하지_않는_옵션으로_선물_보내기_시_실패한다() {
         RestAssured.given()
@@ -117,9 +148,11 @@ class GiftApiTest {
             .post("/api/gifts")
         .then()
             .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 옵션_ID에_잘못된_타입을_보내면_실패한다() {
         RestAssured.given()
@@ -137,10 +170,11 @@ class GiftApiTest {
             .post("/api/gifts")
         .then()
             .statusCode(400);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/gift/zero-stock.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/zero-stock.sql"})
     @Test
     void 재고가_0일_때_실패한다() {
         RestAssured.given()
@@ -162,4 +196,269 @@ class GiftApiTest {
         Option unchanged = optionRepository.findById(1L).orElseThrow();
         assertThat(unchanged.getQuantity()).isEqualTo(0);
     }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 여러_명에게_한_번에_선물하면_합계만큼_한_번에_차감하고_받는_사람별_결과를_준다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "message": "수고하셨습니다",
+                    "receivers": [
+                        {"receiverId": 2, "quantity": 3},
+                        {"receiverId": 3, "quantity": 0},
+                        {"receiverId": 4, "quantity": 2, "message": "특별히 감사해요"}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/batch")
+        .then()
+            .statusCode(200)
+            .body("results.accepted", contains(true, false, true))
+            .body("results[1].reason", notNullValue());
+
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(5);
+        assertThat(giftOutboxRepository.count()).isEqualTo(2);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 받는_사람_없이_여러_명에게_선물하면_실패한다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "message": "선물",
+                    "receivers": []
+                }
+                """)
+        .when()
+            .post("/api/gifts/batch")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 여러_명에게_보낼_수량의_합계가_재고보다_많으면_아무에게도_보내지_않는다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "message": "선물",
+                    "receivers": [
+                        {"receiverId": 2, "quantity": 6},
+                        {"receiverId": 3, "quantity": 6}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/batch")
+        .then()
+            .statusCode(500);
+
+        Option unchanged = optionRepository.findById(1L).orElseThrow();
+        assertThat(unchanged.getQuantity()).isEqualTo(10);
+        assertThat(giftOutboxRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 여러_명에게_보낼_수량의_합계가_int_범위를_넘으면_아무에게도_보내지_않는다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "message": "선물",
+                    "receivers": [
+                        {"receiverId": 2, "quantity": 2147483647},
+                        {"receiverId": 3, "quantity": 2147483647},
+                        {"receiverId": 2, "quantity": 3}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/batch")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+        Option unchanged = optionRepository.findById(1L).orElseThrow();
+        assertThat(unchanged.getQuantity()).isEqualTo(10);
+        assertThat(giftOutboxRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/concurrency.sql"})
+    @Test
+    void 동시에_선물을_보내도_재고만큼만_차감된다() throws Exception {
+        int succeeded = ConcurrentRequests.succeeded(64, 2000,
+            i -> ConcurrentRequests.post(port, "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        assertThat(succeeded).isEqualTo(1000);
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(0);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 여러_옵션_주문_시_하나라도_재고가_부족하면_모두_롤백된다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "receiverId": 2,
+                    "message": "선물",
+                    "items": [
+                        {"optionId": 3, "quantity": 10},
+                        {"optionId": 1, "quantity": 10},
+                        {"optionId": 2, "quantity": 1001}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/checkout")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
+        assertThat(optionRepository.findAllById(List.of(1L, 2L, 3L)))
+            .extracting(Option::getQuantity)
+            .containsOnly(1000);
+        assertThat(giftOutboxRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 여러_옵션을_한_번에_주문하면_같은_옵션은_합쳐서_모두_차감한다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "receiverId": 2,
+                    "message": "선물",
+                    "items": [
+                        {"optionId": 2, "quantity": 3},
+                        {"optionId": 1, "quantity": 2},
+                        {"optionId": 2, "quantity": 1}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/checkout")
+        .then()
+            .statusCode(200);
+
+        assertThat(QueryCounter.count()).isEqualTo(3);
+
+        Map<Long, Integer> quantities = optionRepository.findAllById(List.of(1L, 2L, 3L)).stream()
+            .collect(Collectors.toMap(Option::getId, Option::getQuantity));
+        assertThat(quantities).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 998, 2L, 996, 3L, 1000));
+        assertThat(giftOutboxRepository.count()).isEqualTo(2);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 수량이_0_이하인_항목이_있으면_주문하지_않는다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "receiverId": 2,
+                    "message": "선물",
+                    "items": [
+                        {"optionId": 1, "quantity": 1},
+                        {"optionId": 2, "quantity": -5}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/checkout")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+        assertThat(optionRepository.findAllById(List.of(1L, 2L, 3L)))
+            .extracting(Option::getQuantity)
+            .containsOnly(1000);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 같은_옵션을_합친_수량이_int_범위를_넘으면_주문하지_않는다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "receiverId": 2,
+                    "message": "선물",
+                    "items": [
+                        {"optionId": 1, "quantity": 2147483647},
+                        {"optionId": 1, "quantity": 2147483647}
+                    ]
+                }
+                """)
+        .when()
+            .post("/api/gifts/checkout")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+        assertThat(optionRepository.findAllById(List.of(1L, 2L, 3L)))
+            .extracting(Option::getQuantity)
+            .containsOnly(1000);
+        assertThat(giftOutboxRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 주문_항목_없이_주문하면_실패한다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "receiverId": 2,
+                    "message": "선물",
+                    "items": []
+                }
+                """)
+        .when()
+            .post("/api/gifts/checkout")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 여러_옵션을_서로_다른_순서로_동시에_주문해도_모두_차감된다() throws Exception {
+        int requests = 300;
+        int succeeded = ConcurrentRequests.succeeded(32, requests, i -> ConcurrentRequests.checkoutInShuffledOrder(port, i));
+
+        assertThat(succeeded).isEqualTo(requests);
+        assertThat(optionRepository.findAllById(List.of(1L, 2L, 3L)))
+            .extracting(Option::getQuantity)
+            .containsOnly(700);
+    }
 }
@@ -0,0 +1,149 @@
+package gift;
+
+import gift.application.GiftDispatcher;
+import gift.model.GiftDelivery;
+import gift.model.GiftOutbox;
+import gift.model.GiftOutboxRepository;
+import gift.model.GiftOutboxStatus;
+import gift.model.OptionRepository;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "gift.outbox.poll-interval=1h",
+        "gift.outbox.purge-interval=1h",
+        "gift.outbox.max-attempts=3",
+        "gift.outbox.initial-backoff=0s",
+        "gift.outbox.sent-retention=0s"
+    }
+)
+class GiftOutboxTest {
+
+    @LocalServerPort
+    int port;
+
+    @MockitoBean
+    GiftDelivery giftDelivery;
+
+    @Autowired
+    GiftDispatcher giftDispatcher;
+
+    @Autowired
+    GiftOutboxRepository giftOutboxRepository;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 선물은_재고_차감이_커밋된_뒤_디스패처가_전달한다() {
+        선물한다();
+
+        verify(giftDelivery, never()).deliver(any());
+        assertThat(giftOutboxRepository.findAll())
+            .extracting(GiftOutbox::getStatus)
+            .containsExactly(GiftOutboxStatus.PENDING);
+
+        giftDispatcher.dispatch();
+
+        verify(giftDelivery).deliver(any());
+        assertThat(giftOutboxRepository.findAll())
+            .extracting(GiftOutbox::getStatus)
+            .containsExactly(GiftOutboxStatus.SENT);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 전달에_실패하면_재시도하고_한도를_넘으면_DEAD로_남긴다() {
+        doThrow(new IllegalStateException("전달 실패")).when(giftDelivery).deliver(any());
+        선물한다();
+
+        giftDispatcher.dispatch();
+        List<GiftOutbox> retrying = giftOutboxRepository.findAll();
+        assertThat(retrying.get(0).getStatus()).isEqualTo(GiftOutboxStatus.PENDING);
+        assertThat(retrying.get(0).getAttempts()).isEqualTo(1);
+
+        giftDispatcher.dispatch();
+        giftDispatcher.dispatch();
+
+        verify(giftDelivery, times(3)).deliver(any());
+        GiftOutbox dead = giftOutboxRepository.findAll().get(0);
+        assertThat(dead.getStatus()).isEqualTo(GiftOutboxStatus.DEAD);
+        assertThat(dead.getLastError()).contains("전달 실패");
+        assertThat(optionRepository.findById(1L).orElseThrow().getQuantity()).isEqualTo(7);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 받는_사람별로_묶는_전달이면_배치를_받는_사람마다_한_번에_넘기고_함께_실패시킨다() {
+        when(giftDelivery.groupsByReceiver()).thenReturn(true);
+        doThrow(new IllegalStateException("전달 실패")).when(giftDelivery).deliverAll(any());
+        선물한다();
+        선물한다();
+
+        giftDispatcher.dispatch();
+
+        verify(giftDelivery).deliverAll(argThat(gifts -> gifts.size() == 2));
+        verify(giftDelivery, never()).deliver(any());
+        assertThat(giftOutboxRepository.findAll())
+            .extracting(GiftOutbox::getAttempts)
+            .containsExactly(1, 1);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 보존_기간이_지난_SENT_행만_정리한다() {
+        선물한다();
+        giftDispatcher.dispatch();
+        선물한다();
+
+        giftDispatcher.purge();
+
+        assertThat(giftOutboxRepository.findAll())
+            .extracting(GiftOutbox::getStatus)
+            .containsExactly(GiftOutboxStatus.PENDING);
+    }
+
+    private void 선물한다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "quantity": 3,
+                    "receiverId": 2,
+                    "message": "생일 축하해"
+                }
+                """)
+        .when()
+            .post("/api/gifts")
+        .then()
+            .statusCode(200);
+    }
+}
@@ -0,0 +1,53 @@
+package gift;
+
+import gift.model.Option;
+import gift.model.OptionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "gift.stock.strategy=optimistic",
+        "gift.stock.retry.max-attempts=100",
+        "gift.stock.retry.max-backoff=50ms"
+    }
+)
+class OptimisticLockGiftApiTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/concurrency.sql"})
+    @Test
+    void 동시에_선물을_보내면_충돌을_재시도하고_재고만큼만_차감된다() throws Exception {
+        int succeeded = ConcurrentRequests.succeeded(16, 2000,
+            i -> ConcurrentRequests.post(port, "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        assertThat(succeeded).isEqualTo(1000);
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(0);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 여러_옵션을_서로_다른_순서로_동시에_주문해도_모두_차감된다() throws Exception {
+        int requests = 300;
+        int succeeded = ConcurrentRequests.succeeded(32, requests, i -> ConcurrentRequests.checkoutInShuffledOrder(port, i));
+
+        assertThat(succeeded).isEqualTo(requests);
+        assertThat(optionRepository.findAllById(List.of(1L, 2L, 3L)))
+            .extracting(Option::getQuantity)
+            .containsOnly(700);
+    }
+}
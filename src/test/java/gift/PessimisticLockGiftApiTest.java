@@ -0,0 +1,51 @@
+package gift;
+
+import gift.model.Option;
+import gift.model.OptionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "gift.stock.strategy=pessimistic"
+)
+class PessimisticLockGiftApiTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/concurrency.sql"})
+    @Test
+    void 동시에_선물을_보내도_재고만큼만_차감된다() throws Exception {
+        int succeeded = ConcurrentRequests.succeeded(64, 2000,
+            i -> ConcurrentRequests.post(port, "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        assertThat(succeeded).isEqualTo(1000);
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(0);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/checkout.sql"})
+    @Test
+    void 여러_옵션을_서로_다른_순서로_동시에_주문해도_교착_없이_모두_차감된다() throws Exception {
+        int requests = 300;
+        int succeeded = ConcurrentRequests.succeeded(32, requests, i -> ConcurrentRequests.checkoutInShuffledOrder(port, i));
+
+        assertThat(succeeded).isEqualTo(requests);
+        Map<Long, Integer> quantities = optionRepository.findAllById(List.of(1L, 2L, 3L)).stream()
+            .collect(Collectors.toMap(Option::getId, Option::getQuantity));
+        assertThat(quantities).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 700, 2L, 700, 3L, 700));
+    }
+}
@@ -4,6 +4,8 @@ import gift.model.Product;
 import gift.model.ProductRepository;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,11 +13,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = QueryCounter.PROPERTY)
 class ProductApiTest {
 
     @LocalServerPort
@@ -27,9 +35,10 @@ class ProductApiTest {
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
+        QueryCounter.reset();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 상품_등록_성공() {
         RestAssured.given()
@@ -47,13 +56,15 @@ class ProductApiTest {
         .then()
             .statusCode(200);
 
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
         List<Product> products = productRepository.findAll();
         assertThat(products).hasSize(1);
         assertThat(products.get(0).getName()).isEqualTo("초콜릿");
         assertThat(products.get(0).getCategory().getId()).isEqualTo(1L);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 가격에_잘못된_타입을_보내면_실패한다() {
         RestAssured.given()
@@ -71,11 +82,13 @@ class ProductApiTest {
         .then()
             .statusCode(400);
 
+        assertThat(QueryCounter.count()).isEqualTo(0);
+
         List<Product> products = productRepository.findAll();
         assertThat(products).isEmpty();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 존재하지_않는_카테고리로_상품_등록_시_실패한다() {
         RestAssured.given()
@@ -93,7 +106,133 @@ class ProductApiTest {
         .then()
             .statusCode(500);
 
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
         List<Product> products = productRepository.findAll();
         assertThat(products).isEmpty();
     }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/product/page.sql"})
+    @Test
+    void 커서를_따라가며_상품_목록을_끝까지_조회한다() {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            ExtractableResponse<Response> response = RestAssured.given()
+                .queryParam("size", 2)
+                .queryParams(cursor == null ? Map.of() : Map.of("cursor", cursor))
+            .when()
+                .get("/api/products")
+            .then()
+                .statusCode(200)
+                .extract();
+            ids.addAll(response.path("items.id"));
+            cursor = response.path("nextCursor");
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/product/page.sql"})
+    @Test
+    void 카테고리_상품을_가격순으로_페이지_조회한다() {
+        String cursor = RestAssured.given()
+            .queryParam("categoryId", 1)
+            .queryParam("sort", "price")
+            .queryParam("size", 2)
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200)
+            .body("items.id", contains(5, 2))
+            .body("nextCursor", notNullValue())
+            .extract()
+            .path("nextCursor");
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        RestAssured.given()
+            .queryParam("categoryId", 1)
+            .queryParam("sort", "price")
+            .queryParam("size", 2)
+            .queryParam("cursor", cursor)
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200)
+            .body("items.id", contains(4, 1))
+            .body("nextCursor", nullValue());
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/product/page.sql"})
+    @Test
+    void 여러_상품을_요청한_순서대로_한_번에_조회한다() {
+        RestAssured.given()
+            .queryParam("ids", "4,1,3,1")
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200)
+            .body("id", contains(4, 1, 3, 1))
+            .body("category.id", contains(1, 1, 2, 1));
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/product/page.sql"})
+    @Test
+    void 캐시에_있는_상품은_제외하고_나머지만_조회한다() {
+        RestAssured.given()
+            .queryParam("ids", "1,2")
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200);
+        QueryCounter.reset();
+
+        RestAssured.given()
+            .queryParam("ids", "2,5,1")
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200)
+            .body("id", contains(2, 5, 1));
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        RestAssured.given()
+            .queryParam("ids", "5,2")
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(200)
+            .body("id", contains(5, 2));
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/product/page.sql"})
+    @Test
+    void 존재하지_않는_상품이_섞여_있으면_실패한다() {
+        RestAssured.given()
+            .queryParam("ids", "1,999")
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(500);
+    }
+
+    @Test
+    void 최대_개수를_넘는_상품을_한_번에_조회하면_실패한다() {
+        String ids = String.join(",", IntStream.rangeClosed(1, 101).mapToObj(String::valueOf).toList());
+
+        RestAssured.given()
+            .queryParam("ids", ids)
+        .when()
+            .get("/api/products")
+        .then()
+            .statusCode(500);
+
+        assertThat(QueryCounter.count()).isEqualTo(0);
+    }
 }
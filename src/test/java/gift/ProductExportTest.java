@@ -0,0 +1,71 @@
+package gift;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductExportTest {
+    private static final int PRODUCTS = 200_000;
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 전체_상품을_일정한_메모리로_스트리밍한다() throws Exception {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            rows.add(new Object[]{i, "상품" + i, i, "img.jpg", i % 2 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (id, name, price, image_url, category_id) VALUES (?, ?, ?, ?, ?)", rows);
+        rows.clear();
+        long baseline = usedHeapAfterGc();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/export")).build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+
+        int lines = 0;
+        long peak = 0;
+        try (Stream<String> body = response.body()) {
+            Iterator<String> iterator = body.iterator();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                if (lines == 0) {
+                    assertThat(line).contains("\"id\":1,");
+                }
+                if (++lines % 20_000 == 0) {
+                    peak = Math.max(peak, usedHeapAfterGc() - baseline);
+                }
+            }
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(lines).isEqualTo(PRODUCTS);
+        assertThat(peak).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
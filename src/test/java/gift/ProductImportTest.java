@@ -0,0 +1,165 @@
+package gift;
+
+import gift.application.ProductCache;
+import gift.application.ProductResponse;
+import gift.model.Product;
+import gift.model.ProductRepository;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductImportTest {
+    private static final int PRODUCTS = 100_000;
+    private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void CSV로_상품을_가져오고_잘못된_행은_행_번호와_함께_알려준다() {
+        RestAssured.given()
+            .contentType("text/csv; charset=UTF-8")
+            .body("""
+                name,price,imageUrl,categoryId
+                초콜릿,10000,img.jpg,1
+                "양말, 3켤레",5000,img.jpg,2
+                사탕,만원,img.jpg,1
+                ,1000,img.jpg,1
+                젤리,2000,img.jpg,999
+                """)
+        .when()
+            .post("/api/products/import")
+        .then()
+            .statusCode(200)
+            .body("imported", equalTo(2))
+            .body("failed", equalTo(3))
+            .body("errors.line", contains(4, 5, 6));
+
+        List<Product> products = productRepository.findAll();
+        assertThat(products).extracting(Product::getName).containsExactlyInAnyOrder("초콜릿", "양말, 3켤레");
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void NDJSON으로_상품을_가져온다() {
+        RestAssured.given()
+            .contentType("application/x-ndjson; charset=UTF-8")
+            .body("""
+                {"name": "초콜릿", "price": 10000, "imageUrl": "img.jpg", "categoryId": 1}
+                {"name": "양말", "price": -1, "imageUrl": "img.jpg", "categoryId": 2}
+                {"name": "사탕",
+                {"name": "젤리", "price": 2000, "imageUrl": "img.jpg", "categoryId": 2}
+                """)
+        .when()
+            .post("/api/products/import")
+        .then()
+            .statusCode(200)
+            .body("imported", equalTo(2))
+            .body("errors.line", contains(2, 3));
+
+        assertThat(productRepository.count()).isEqualTo(2);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 가져온_청크가_커밋되면_상품_캐시를_무효화한다() {
+        jdbcTemplate.update("INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1)");
+        assertThat(productCache.get(1L)).map(ProductResponse::name).contains("초콜릿");
+        jdbcTemplate.update("UPDATE product SET name = '다크 초콜릿' WHERE id = 1");
+
+        RestAssured.given()
+            .contentType("application/x-ndjson; charset=UTF-8")
+            .body("""
+                {"name": "사탕", "price": 2000, "imageUrl": "img.jpg", "categoryId": 1}
+                """)
+        .when()
+            .post("/api/products/import")
+        .then()
+            .statusCode(200)
+            .body("imported", equalTo(1));
+
+        assertThat(productCache.get(1L)).map(ProductResponse::name).contains("다크 초콜릿");
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 대량의_상품을_일정한_메모리로_가져온다() throws Exception {
+        long baseline = usedHeapAfterGc();
+        AtomicLong peak = new AtomicLong();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/products/import"))
+            .header("Content-Type", "application/x-ndjson")
+            .POST(HttpRequest.BodyPublishers.ofInputStream(() -> 상품_줄(baseline, peak)))
+            .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"imported\":" + PRODUCTS, "\"failed\":0");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class)).isEqualTo(PRODUCTS);
+        assertThat(peak.get()).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    private static InputStream 상품_줄(long baseline, AtomicLong peak) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int line;
+
+            @Override
+            public boolean hasMoreElements() {
+                return line < PRODUCTS;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (++line % 20_000 == 0) {
+                    peak.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+                }
+                String json = "{\"name\": \"상품" + line + "\", \"price\": " + line + ", \"imageUrl\": \"img.jpg\", \"categoryId\": "
+                    + (line % 2 + 1) + "}\n";
+                return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
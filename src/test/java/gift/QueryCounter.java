@@ -0,0 +1,38 @@
+package gift;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueryCounter implements StatementInspector {
+    public static final String PROPERTY =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=gift.QueryCounter";
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(final String sql) {
+        if (isInRequest() && !isSequenceFetch(sql)) {
+            COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+
+    private static boolean isInRequest() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+
+    private static boolean isSequenceFetch(final String sql) {
+        final String normalized = sql.toLowerCase();
+        return normalized.contains("next value for") || normalized.contains("nextval(");
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+}
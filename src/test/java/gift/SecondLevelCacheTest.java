@@ -0,0 +1,66 @@
+package gift;
+
+import gift.model.CategoryRepository;
+import gift.model.MemberRepository;
+import gift.model.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "gift.hibernate.statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
+    @Test
+    void 회원과_카테고리를_반복_조회하면_두_번째부터는_SQL_없이_캐시에서_읽는다() {
+        memberRepository.findById(1L).orElseThrow();
+        categoryRepository.findById(1L).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        memberRepository.findById(1L).orElseThrow();
+        categoryRepository.findById(1L).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getDomainDataRegionStatistics("gift.model.Member").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("gift.model.Category").getHitCount()).isEqualTo(1);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/wish/success.sql"})
+    @Test
+    void 상품을_카테고리와_함께_반복_조회하면_쿼리_캐시에서_읽는다() {
+        productRepository.findWithCategoryById(1L).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        productRepository.findWithCategoryById(1L).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
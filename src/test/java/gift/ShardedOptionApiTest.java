@@ -0,0 +1,136 @@
+package gift;
+
+import gift.model.Option;
+import gift.model.OptionRepository;
+import gift.model.OptionStockShardRepository;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "gift.stock.strategy=sharded"
+)
+class ShardedOptionApiTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @Autowired
+    OptionStockShardRepository optionStockShardRepository;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 옵션_재고를_샤드로_나누면_합계는_유지된다() {
+        샤드_수를_바꾼다(4);
+
+        assertThat(optionStockShardRepository.findIdsByOptionId(1L)).hasSize(4);
+        assertThat(optionRepository.findById(1L).orElseThrow().getQuantity()).isEqualTo(0);
+        assertThat(재고를_조회한다()).isEqualTo(10);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 샤드를_하나로_합치면_옵션_행으로_재고가_돌아온다() {
+        샤드_수를_바꾼다(4);
+        샤드_수를_바꾼다(1);
+
+        assertThat(optionStockShardRepository.findIdsByOptionId(1L)).isEmpty();
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(10);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 한_샤드의_재고보다_많이_선물하면_여러_샤드에서_차감한다() {
+        샤드_수를_바꾼다(4);
+
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "quantity": 7,
+                    "receiverId": 2,
+                    "message": "선물"
+                }
+                """)
+        .when()
+            .post("/api/gifts")
+        .then()
+            .statusCode(200);
+
+        assertThat(재고를_조회한다()).isEqualTo(3);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 샤드_수_상한을_넘기면_실패한다() {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "shardCount": 65
+                }
+                """)
+        .when()
+            .put("/api/options/1/shards")
+        .then()
+            .statusCode(500);
+
+        assertThat(optionStockShardRepository.findIdsByOptionId(1L)).isEmpty();
+        assertThat(재고를_조회한다()).isEqualTo(10);
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/concurrency.sql"})
+    @Test
+    void 동시에_선물을_보내도_샤드_재고만큼만_차감된다() throws Exception {
+        샤드_수를_바꾼다(8);
+
+        int succeeded = ConcurrentRequests.succeeded(64, 2000,
+            i -> ConcurrentRequests.post(port, "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        assertThat(succeeded).isEqualTo(1000);
+        assertThat(재고를_조회한다()).isEqualTo(0);
+    }
+
+    private void 샤드_수를_바꾼다(int shardCount) {
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {
+                    "shardCount": %d
+                }
+                """.formatted(shardCount))
+        .when()
+            .put("/api/options/1/shards")
+        .then()
+            .statusCode(200);
+    }
+
+    private int 재고를_조회한다() {
+        return RestAssured.given()
+        .when()
+            .get("/api/options/1/quantity")
+        .then()
+            .statusCode(200)
+            .extract()
+            .as(Integer.class);
+    }
+}
@@ -14,8 +14,9 @@ import org.springframework.test.context.jdbc.Sql;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = QueryCounter.PROPERTY)
 class WishApiTest {
 
     @LocalServerPort
@@ -27,10 +28,10 @@ class WishApiTest {
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
+        QueryCounter.reset();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/wish/success.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/wish/success.sql"})
     @Test
     void 위시리스트_추가_성공() {
         RestAssured.given()
@@ -46,13 +47,15 @@ class WishApiTest {
         .then()
             .statusCode(200);
 
+        assertThat(QueryCounter.count()).isEqualTo(3);
+
         List<Wish> wishes = wishRepository.findAll();
         assertThat(wishes).hasSize(1);
         assertThat(wishes.get(0).getMember().getId()).isEqualTo(1L);
         assertThat(wishes.get(0).getProduct().getId()).isEqualTo(1L);
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 존재하지_않는_상품에_위시리스트_추가_시_실패한다() {
         RestAssured.given()
@@ -68,11 +71,13 @@ class WishApiTest {
         .then()
             .statusCode(500);
 
+        assertThat(QueryCounter.count()).isEqualTo(2);
+
         List<Wish> wishes = wishRepository.findAll();
         assertThat(wishes).isEmpty();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql"})
     @Test
     void 상품_ID에_잘못된_타입을_보내면_실패한다() {
         RestAssured.given()
@@ -88,12 +93,13 @@ class WishApiTest {
         .then()
             .statusCode(400);
 
+        assertThat(QueryCounter.count()).isEqualTo(0);
+
         List<Wish> wishes = wishRepository.findAll();
         assertThat(wishes).isEmpty();
     }
 
-    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/h2/reset-sequences.sql",
-        "/sql/wish/invalid-member.sql"})
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/wish/invalid-member.sql"})
     @Test
     void 존재하지_않는_회원이_위시리스트_추가_시_실패한다() {
         RestAssured.given()
@@ -109,7 +115,33 @@ class WishApiTest {
         .then()
             .statusCode(500);
 
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
         List<Wish> wishes = wishRepository.findAll();
         assertThat(wishes).isEmpty();
     }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/wish/success.sql"})
+    @Test
+    void 캐시된_상품은_다시_조회하지_않고_위시리스트에_추가한다() {
+        for (long memberId : List.of(1L, 2L)) {
+            QueryCounter.reset();
+            RestAssured.given()
+                .contentType(ContentType.JSON)
+                .header("Member-Id", memberId)
+                .body("""
+                    {
+                        "productId": 1
+                    }
+                    """)
+            .when()
+                .post("/api/wishes")
+            .then()
+                .statusCode(200)
+                .body("product.category.name", equalTo("식품"));
+        }
+
+        assertThat(QueryCounter.count()).isEqualTo(2);
+        assertThat(wishRepository.findAll()).hasSize(2);
+    }
 }
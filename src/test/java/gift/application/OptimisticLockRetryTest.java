@@ -0,0 +1,80 @@
+package gift.application;
+
+import gift.model.StockLeaseExhaustedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticLockRetryTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticLockRetry retry = new OptimisticLockRetry(
+        new StockRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(1), 2),
+        meterRegistry
+    );
+
+    @Test
+    void 충돌과_재시도는_옵션별로_센다() {
+        retry.execute(1L, 충돌한다(2));
+        retry.execute(2L, 충돌한다(1));
+
+        assertThat(횟수("gift.stock.conflicts", "1")).isEqualTo(2);
+        assertThat(횟수("gift.stock.retries", "1")).isEqualTo(2);
+        assertThat(횟수("gift.stock.conflicts", "2")).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도를_다_쓰면_소진으로_센다() {
+        assertThatThrownBy(() -> retry.execute(1L, 충돌한다(3)))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(횟수("gift.stock.conflicts", "1")).isEqualTo(3);
+        assertThat(횟수("gift.stock.retries", "1")).isEqualTo(2);
+        assertThat(횟수("gift.stock.retries.exhausted", "1")).isEqualTo(1);
+    }
+
+    @Test
+    void 태그할_옵션_수를_넘기면_나머지는_other로_모은다() {
+        retry.execute(1L, 충돌한다(1));
+        retry.execute(2L, 충돌한다(1));
+        retry.execute(3L, 충돌한다(1));
+        retry.execute(4L, 충돌한다(1));
+
+        assertThat(meterRegistry.find("gift.stock.conflicts").counters()).hasSize(3);
+        assertThat(횟수("gift.stock.conflicts", OptimisticLockRetry.OTHER_OPTIONS)).isEqualTo(2);
+    }
+
+    @Test
+    void 임대_소진은_충돌로_세지_않고_따로_세며_다시_시도한다() {
+        AtomicInteger attempts = new AtomicInteger();
+        retry.execute(1L, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new StockLeaseExhaustedException(1L);
+            }
+        });
+
+        assertThat(attempts).hasValue(2);
+        assertThat(meterRegistry.counter("gift.stock.lease.refill.retries").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("gift.stock.conflicts").counters()).isEmpty();
+        assertThat(meterRegistry.find("gift.stock.retries").counters()).isEmpty();
+    }
+
+    private static Runnable 충돌한다(int times) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.incrementAndGet() <= times) {
+                throw new OptimisticLockingFailureException("충돌");
+            }
+        };
+    }
+
+    private double 횟수(String name, String option) {
+        return meterRegistry.counter(name, "option", option).count();
+    }
+}
@@ -0,0 +1,103 @@
+package gift.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final AtomicInteger queries = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 16, 256, 1024})
+    void 동시_요청이_늘어나도_같은_조회는_한_번만_실행한다(int concurrency) {
+        List<CompletableFuture<Integer>> callers = IntStream.range(0, concurrency)
+            .mapToObj(i -> 조회한다("products"))
+            .toList();
+        합류할_때까지_기다린다(concurrency - 1);
+
+        release.countDown();
+
+        assertThat(callers).allSatisfy(caller -> assertThat(caller.join()).isEqualTo(1));
+        assertThat(queries).hasValue(1);
+        assertThat(실행_횟수("executed")).isEqualTo(1);
+        assertThat(실행_횟수("coalesced")).isEqualTo(concurrency - 1);
+    }
+
+    @Test
+    void 다른_키의_조회는_함께_묶지_않는다() {
+        release.countDown();
+
+        assertThat(조회한다("products").join()).isEqualTo(1);
+        assertThat(조회한다("categories").join()).isEqualTo(2);
+        assertThat(실행_횟수("coalesced")).isZero();
+    }
+
+    @Test
+    void 조회가_끝나면_다음_요청은_새로_실행한다() {
+        release.countDown();
+
+        assertThat(조회한다("products").join()).isEqualTo(1);
+        assertThat(조회한다("products").join()).isEqualTo(2);
+        assertThat(실행_횟수("executed")).isEqualTo(2);
+    }
+
+    @Test
+    void 실행한_조회가_실패하면_합류한_요청도_같은_예외로_실패한다() {
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("products", () -> {
+            await();
+            throw new IllegalStateException("조회 실패");
+        }), executor);
+        합류할_때까지_기다린다(0);
+        CompletableFuture<Integer> follower = 조회한다("products");
+        합류할_때까지_기다린다(1);
+
+        release.countDown();
+
+        assertThatThrownBy(leader::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(queries).hasValue(0);
+    }
+
+    private CompletableFuture<Integer> 조회한다(String key) {
+        return CompletableFuture.supplyAsync(() -> singleFlight.execute(key, () -> {
+            await();
+            return queries.incrementAndGet();
+        }), executor);
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void 합류할_때까지_기다린다(int coalesced) {
+        while (실행_횟수("executed") < 1 || 실행_횟수("coalesced") < coalesced) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private double 실행_횟수(String result) {
+        return meterRegistry.counter("gift.singleflight.loads", "name", "test", "result", result).count();
+    }
+}
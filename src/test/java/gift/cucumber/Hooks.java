@@ -1,10 +1,12 @@
 package gift.cucumber;
 
+import gift.CacheEvictionListener;
 import io.cucumber.java.Before;
 import io.restassured.RestAssured;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 
@@ -19,6 +21,9 @@ public class Hooks {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private ApplicationContext applicationContext;
+
     @Value("${test.sql.dialect:h2}")
     private String sqlDialect;
 
@@ -28,5 +33,6 @@ public class Hooks {
         try (Connection conn = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/cleanup.sql"));
         }
+        CacheEvictionListener.evictAll(applicationContext);
     }
 }
@@ -26,7 +26,7 @@ public class CommonStepDefinitions {
     public void 공통_데이터가_초기화되어_있다() throws Exception {
         try (Connection conn = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/common-data.sql"));
-            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/reset-sequences.sql"));
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/advance-sequences.sql"));
         }
     }
 
@@ -41,7 +41,7 @@ public class GiftStepDefinitions {
     public void 재고가_N인_옵션이_존재한다(int quantity) throws Exception {
         try (Connection conn = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/common-data.sql"));
-            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/reset-sequences.sql"));
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/advance-sequences.sql"));
             String sqlFile = switch (quantity) {
                 case 10 -> "sql/gift/success.sql";
                 case 5 -> "sql/gift/exact-quantity.sql";
@@ -10,6 +10,7 @@ import io.cucumber.java.en.When;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -26,6 +27,9 @@ public class ProductStepDefinitions {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @When("이름이 {string}이고 가격이 {int}이고 카테고리가 {string}인 상품을 등록한다")
     public void 상품을_등록한다(String name, int price, String categoryName) {
         Category category = categoryRepository.findAll().stream()
@@ -78,8 +82,10 @@ public class ProductStepDefinitions {
 
     @And("상품 {string}의 카테고리가 {string}이다")
     public void 상품의_카테고리가_N이다(String productName, String categoryName) {
-        List<Product> products = productRepository.findAll();
-        assertThat(products)
-            .anyMatch(p -> p.getName().equals(productName) && p.getCategory().getName().equals(categoryName));
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Product> products = productRepository.findAll();
+            assertThat(products)
+                .anyMatch(p -> p.getName().equals(productName) && p.getCategory().getName().equals(categoryName));
+        });
     }
 }
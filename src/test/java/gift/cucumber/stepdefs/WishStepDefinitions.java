@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -37,6 +38,9 @@ public class WishStepDefinitions {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private DataSource dataSource;
 
@@ -47,7 +51,7 @@ public class WishStepDefinitions {
     public void 상품이_존재한다(String productName) throws Exception {
         try (Connection conn = dataSource.getConnection()) {
             ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/common-data.sql"));
-            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/reset-sequences.sql"));
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/" + sqlDialect + "/advance-sequences.sql"));
             ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/wish/success.sql"));
         }
     }
@@ -135,8 +139,10 @@ public class WishStepDefinitions {
 
     @And("{string}의 위시리스트에 {string}이 있다")
     public void 회원의_위시리스트에_상품이_있다(String memberName, String productName) {
-        List<Wish> wishes = wishRepository.findAll();
-        assertThat(wishes)
-            .anyMatch(w -> w.getMember().getName().equals(memberName) && w.getProduct().getName().equals(productName));
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Wish> wishes = wishRepository.findAll();
+            assertThat(wishes)
+                .anyMatch(w -> w.getMember().getName().equals(memberName) && w.getProduct().getName().equals(productName));
+        });
     }
 }
@@ -0,0 +1,113 @@
+package gift.infrastructure;
+
+import gift.model.Category;
+import gift.model.Gift;
+import gift.model.GiftDelivery;
+import gift.model.Option;
+import gift.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class CoalescingGiftDeliveryTest {
+    private final Option option = new Option(1L, "기본", 10, new Product(1L, "초콜릿", 10000, "img.jpg", new Category(1L, "식품")));
+    private final List<List<Gift>> sent = new CopyOnWriteArrayList<>();
+    private final GiftDelivery recorder = new GiftDelivery() {
+        @Override
+        public void deliver(Gift gift) {
+            deliverAll(List.of(gift));
+        }
+
+        @Override
+        public void deliverAll(List<Gift> gifts) {
+            sent.add(gifts);
+        }
+    };
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Test
+    void 같은_받는_사람의_선물은_대기_시간_동안_모아_한_번에_전달한다() {
+        CoalescingGiftDelivery delivery = new CoalescingGiftDelivery(recorder, new CoalescingProperties(Duration.ofMillis(200), 20, true));
+
+        CompletableFuture.allOf(
+            전달한다(delivery, 2L),
+            전달한다(delivery, 2L),
+            전달한다(delivery, 2L),
+            전달한다(delivery, 3L)
+        ).join();
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent).anyMatch(gifts -> gifts.size() == 3 && gifts.stream().allMatch(gift -> gift.getTo().equals(2L)));
+        assertThat(sent).anyMatch(gifts -> gifts.size() == 1 && gifts.get(0).getTo().equals(3L));
+    }
+
+    @Test
+    void 최대_묶음_크기에_도달하면_대기_시간을_기다리지_않고_전달한다() {
+        CoalescingGiftDelivery delivery = new CoalescingGiftDelivery(recorder, new CoalescingProperties(Duration.ofHours(1), 2, true));
+
+        CompletableFuture.allOf(전달한다(delivery, 2L), 전달한다(delivery, 2L)).join();
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0)).hasSize(2);
+    }
+
+    @Test
+    void 묶음으로_넘겨받은_선물은_대기_시간을_기다리지_않고_최대_묶음_크기로_나눠_전달한다() {
+        CoalescingGiftDelivery delivery = new CoalescingGiftDelivery(recorder, new CoalescingProperties(Duration.ofHours(1), 2, true));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            delivery.deliverAll(List.of(선물(2L), 선물(2L), 선물(2L)));
+            delivery.deliverAll(List.of(선물(3L)));
+        });
+
+        assertThat(sent).extracting(List::size).containsExactly(2, 1, 1);
+        assertThat(delivery.pendingCount()).isZero();
+    }
+
+    @Test
+    void 종료_시_모인_선물을_전달하도록_설정하면_남은_묶음을_보낸다() {
+        CoalescingGiftDelivery delivery = new CoalescingGiftDelivery(recorder, new CoalescingProperties(Duration.ofHours(1), 20, true));
+        CompletableFuture<Void> pending = 전달한다(delivery, 2L);
+        모일_때까지_기다린다(delivery);
+
+        delivery.close();
+
+        pending.join();
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    void 종료_시_전달하지_않도록_설정하면_대기_중인_호출이_실패한다() {
+        CoalescingGiftDelivery delivery = new CoalescingGiftDelivery(recorder, new CoalescingProperties(Duration.ofHours(1), 20, false));
+        CompletableFuture<Void> pending = 전달한다(delivery, 2L);
+        모일_때까지_기다린다(delivery);
+
+        delivery.close();
+
+        assertThatThrownBy(pending::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sent).isEmpty();
+    }
+
+    private CompletableFuture<Void> 전달한다(CoalescingGiftDelivery delivery, Long receiverId) {
+        return CompletableFuture.runAsync(() -> delivery.deliver(선물(receiverId)), executor);
+    }
+
+    private Gift 선물(Long receiverId) {
+        return new Gift(1L, receiverId, option, 1, "선물");
+    }
+
+    private void 모일_때까지_기다린다(CoalescingGiftDelivery delivery) {
+        while (delivery.pendingCount() == 0) {
+            Thread.onSpinWait();
+        }
+    }
+}
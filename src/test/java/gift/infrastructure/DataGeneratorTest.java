@@ -0,0 +1,75 @@
+package gift.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "gift.datagen.enabled=true",
+    "gift.datagen.categories=5",
+    "gift.datagen.products=200",
+    "gift.datagen.options-per-product=2",
+    "gift.datagen.members=50",
+    "gift.datagen.wishes=20000",
+    "gift.datagen.batch-size=1000"
+})
+class DataGeneratorTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    DataGeneratorProperties properties;
+
+    @Test
+    void 설정한_양만큼_데이터를_만든다() {
+        assertThat(행_수("category")).isEqualTo(5);
+        assertThat(행_수("product")).isEqualTo(200);
+        assertThat(행_수("option")).isEqualTo(400);
+        assertThat(행_수("member")).isEqualTo(50);
+        assertThat(행_수("wish")).isEqualTo(20000);
+    }
+
+    @Test
+    void 위시는_소수의_인기_상품에_몰린다() {
+        List<Long> counts = jdbcTemplate.queryForList(
+            "SELECT COUNT(*) FROM wish GROUP BY product_id ORDER BY COUNT(*) DESC", Long.class);
+
+        long top = counts.stream().limit(20).mapToLong(Long::longValue).sum();
+        assertThat(top).isGreaterThan(20000 / 2);
+    }
+
+    @Test
+    void 생성_후_새로_저장하는_행은_생성한_ID_다음부터_번호를_받는다() {
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR member_seq", Long.class)).isEqualTo(51L);
+    }
+
+    @Test
+    void 같은_시드면_같은_데이터를_만든다() {
+        assertThat(위시_행(properties)).isEqualTo(위시_행(properties));
+        assertThat(위시_행(properties)).isNotEqualTo(위시_행(new DataGeneratorProperties(
+            properties.getSeed() + 1, 5, 200, 2, 50, 20000, properties.getZipfExponent(), 1000)));
+    }
+
+    private long 행_수(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<List<Object>> 위시_행(DataGeneratorProperties properties) {
+        SyntheticData.Table wish = new SyntheticData(properties).tables().stream()
+            .filter(table -> table.name().equals("wish"))
+            .findFirst()
+            .orElseThrow();
+        SyntheticData.Rows rows = wish.rows().get();
+        return LongStream.rangeClosed(1, 1000)
+            .mapToObj(id -> Arrays.asList(rows.row(id)))
+            .toList();
+    }
+}
@@ -0,0 +1,109 @@
+package gift.infrastructure;
+
+import gift.model.Option;
+import gift.model.OptionRepository;
+import gift.model.StockReservationRepository;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "gift.stock.strategy=memory",
+        "gift.stock.memory.flush-interval=1h",
+        "gift.stock.memory.flush-batch-size=2"
+    }
+)
+class InMemoryOptionStockTest {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    InMemoryOptionStock inMemoryOptionStock;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        inMemoryOptionStock.evictAll();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 선물하면_메모리_재고에서_차감하고_주기적으로_DB에_반영한다() {
+        선물한다(3).then().statusCode(200);
+        선물한다(4).then().statusCode(200);
+
+        assertThat(optionRepository.findById(1L).orElseThrow().getQuantity()).isEqualTo(10);
+
+        inMemoryOptionStock.flush();
+
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(3);
+        assertThat(stockReservationRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 한_번에_반영할_수보다_많이_쌓여도_한_번의_반영으로_모두_비운다() {
+        for (int i = 0; i < 5; i++) {
+            선물한다(1).then().statusCode(200);
+        }
+        assertThat(stockReservationRepository.count()).isEqualTo(5);
+
+        inMemoryOptionStock.flush();
+
+        assertThat(optionRepository.findById(1L).orElseThrow().getQuantity()).isEqualTo(5);
+        assertThat(stockReservationRepository.count()).isZero();
+    }
+
+    @Sql({"/sql/h2/cleanup.sql", "/sql/common-data.sql", "/sql/gift/success.sql"})
+    @Test
+    void 반영되지_않은_차감이_있어도_재시작_후_재고를_정확히_복구한다() {
+        선물한다(2).then().statusCode(200);
+        선물한다(2).then().statusCode(200);
+        선물한다(2).then().statusCode(200);
+
+        inMemoryOptionStock.evictAll();
+
+        선물한다(5).then().statusCode(500);
+        선물한다(4).then().statusCode(200);
+        선물한다(1).then().statusCode(500);
+
+        inMemoryOptionStock.flush();
+
+        Option updated = optionRepository.findById(1L).orElseThrow();
+        assertThat(updated.getQuantity()).isEqualTo(0);
+    }
+
+    private Response 선물한다(int quantity) {
+        return RestAssured.given()
+            .contentType(ContentType.JSON)
+            .header("Member-Id", 1L)
+            .body("""
+                {
+                    "optionId": 1,
+                    "quantity": %d,
+                    "receiverId": 2,
+                    "message": "선물"
+                }
+                """.formatted(quantity))
+        .when()
+            .post("/api/gifts");
+    }
+}
@@ -0,0 +1,84 @@
+package gift.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.model.Category;
+import gift.model.Gift;
+import gift.model.Option;
+import gift.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KakaoGiftDeliveryTest {
+    private final Gift gift = new Gift(
+        1L,
+        2L,
+        new Option(1L, "기본", 10, new Product(1L, "초콜릿", 10000, "img.jpg", new Category(1L, "식품"))),
+        3,
+        "생일 축하해"
+    );
+
+    KakaoStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        stub.stop();
+    }
+
+    @Test
+    void 카카오_메시지_API로_선물을_전달한다() {
+        KakaoGiftDelivery delivery = 스텁에_연결한다(Duration.ZERO, 0.0, 4);
+
+        delivery.deliver(gift);
+
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_요청을_보내지_않는다() {
+        KakaoGiftDelivery delivery = 스텁에_연결한다(Duration.ZERO, 1.0, 4);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> delivery.deliver(gift)).isInstanceOf(IllegalStateException.class);
+        }
+        assertThatThrownBy(() -> delivery.deliver(gift)).hasMessageContaining("서킷");
+
+        assertThat(stub.requestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 동시_요청_한도를_넘으면_기다리지_않고_실패한다() {
+        KakaoGiftDelivery delivery = 스텁에_연결한다(Duration.ofMillis(500), 0.0, 1);
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> delivery.deliver(gift));
+        while (stub.requestCount() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThatThrownBy(() -> delivery.deliver(gift)).hasMessageContaining("한도");
+
+        slow.join();
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
+    private KakaoGiftDelivery 스텁에_연결한다(Duration latency, double errorRate, int maxConcurrency) {
+        stub = new KakaoStubServer(new KakaoStubProperties(0, latency, errorRate));
+        stub.start();
+        return new KakaoGiftDelivery(
+            new KakaoMessageProperties("ACCESS_TOKEN", "http://localhost:" + stub.port() + "/v1/api/talk"),
+            new KakaoClientProperties(
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(3),
+                maxConcurrency,
+                Duration.ofMillis(10),
+                3,
+                Duration.ofSeconds(10)
+            ),
+            new ObjectMapper()
+        );
+    }
+}
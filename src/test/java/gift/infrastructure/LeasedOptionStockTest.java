@@ -0,0 +1,96 @@
+package gift.infrastructure;
+
+import gift.Application;
+import gift.ConcurrentRequests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB를 바라보는 두 인스턴스를 띄워 임대 모드를 검증한다.
+ * 기본은 JVM 안에서 공유되는 H2이며, docker-compose.yml의 PostgreSQL로 돌리려면
+ * -Dlease.datasource.url=jdbc:postgresql://localhost:5432/gift_test -Dlease.datasource.username=test
+ * -Dlease.datasource.password=test 를 지정한다.
+ * 커넥션 풀을 2개로 줄여, 임대를 채우는 동안 요청 트랜잭션이 커넥션을 쥐고 기다리면 드러나도록 한다.
+ */
+class LeasedOptionStockTest {
+    private static final String URL = System.getProperty("lease.datasource.url", "jdbc:h2:mem:lease;DB_CLOSE_DELAY=-1");
+    private static final String USERNAME = System.getProperty("lease.datasource.username", "sa");
+    private static final String PASSWORD = System.getProperty("lease.datasource.password", "");
+
+    ConfigurableApplicationContext first;
+    ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = start("create-drop");
+        second = start("none");
+        try (Connection conn = first.getBean(DataSource.class).getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/common-data.sql"));
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/gift/concurrency.sql"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        second.close();
+        first.close();
+    }
+
+    @Test
+    void 두_인스턴스가_재고를_나눠_임대해도_초과_판매하지_않고_반납한다() throws Exception {
+        int succeeded = ConcurrentRequests.succeeded(32, 1200,
+            i -> ConcurrentRequests.post(포트(i % 2 == 0 ? first : second), "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        second.getBean(LeasedOptionStock.class).releaseAll();
+        first.getBean(LeasedOptionStock.class).releaseAll();
+
+        Integer quantity = first.getBean(JdbcTemplate.class)
+            .queryForObject("SELECT quantity FROM option WHERE id = 1", Integer.class);
+        assertThat(succeeded).isPositive().isLessThanOrEqualTo(1000);
+        assertThat(quantity).isEqualTo(1000 - succeeded);
+    }
+
+    @Test
+    void 커넥션_풀보다_많은_요청이_몰려도_임대를_채우느라_멈추지_않는다() throws Exception {
+        int succeeded = ConcurrentRequests.succeeded(32, 1200,
+            i -> ConcurrentRequests.post(포트(first), "/api/gifts", ConcurrentRequests.ONE_GIFT));
+
+        first.getBean(LeasedOptionStock.class).releaseAll();
+
+        Integer quantity = first.getBean(JdbcTemplate.class)
+            .queryForObject("SELECT quantity FROM option WHERE id = 1", Integer.class);
+        assertThat(succeeded).isEqualTo(1000);
+        assertThat(quantity).isEqualTo(0);
+    }
+
+    private ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" + URL,
+                "spring.datasource.username=" + USERNAME,
+                "spring.datasource.password=" + PASSWORD,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "spring.datasource.hikari.maximum-pool-size=2",
+                "spring.datasource.hikari.connection-timeout=2s",
+                "gift.stock.strategy=lease",
+                "gift.stock.retry.max-attempts=100"
+            )
+            .run();
+    }
+
+    private int 포트(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+    }
+}
@@ -0,0 +1,141 @@
+package gift.infrastructure;
+
+import gift.Application;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 PostgreSQL을 바라보는 두 인스턴스를 띄워, 한쪽의 쓰기가 NOTIFY로 다른 쪽 캐시를 비우는지 검증한다.
+ * docker-compose.yml의 PostgreSQL을 띄운 뒤
+ * -Dinvalidation.datasource.url=jdbc:postgresql://localhost:5432/gift_test -Dinvalidation.datasource.username=test
+ * -Dinvalidation.datasource.password=test 를 지정해야 실행된다.
+ */
+@EnabledIfSystemProperty(named = "invalidation.datasource.url", matches = ".+")
+class PostgresCacheInvalidationBusTest {
+    private static final String URL = System.getProperty("invalidation.datasource.url");
+    private static final String USERNAME = System.getProperty("invalidation.datasource.username", "test");
+    private static final String PASSWORD = System.getProperty("invalidation.datasource.password", "test");
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    final HttpClient client = HttpClient.newHttpClient();
+
+    ConfigurableApplicationContext first;
+    ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        first = start("create-drop");
+        second = start("none");
+        try (Connection conn = first.getBean(DataSource.class).getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("sql/common-data.sql"));
+        }
+        await(() -> first.getBean(PostgresCacheInvalidationBus.class).isListening()
+            && second.getBean(PostgresCacheInvalidationBus.class).isListening());
+    }
+
+    @AfterEach
+    void tearDown() {
+        second.close();
+        first.close();
+    }
+
+    @Test
+    void 한_인스턴스에서_카테고리를_만들면_다른_인스턴스의_캐시가_비워진다() throws Exception {
+        assertThat(get(second, "/api/categories").body()).doesNotContain("뷰티");
+
+        post(first, "/api/categories", """
+            {"name": "뷰티"}
+            """);
+
+        await(() -> get(second, "/api/categories").body().contains("뷰티"));
+    }
+
+    @Test
+    void 한_인스턴스에서_상품을_만들면_다른_인스턴스가_바로_조회한다() throws Exception {
+        long nextId = first.getBean(JdbcTemplate.class).queryForObject("SELECT last_value FROM product_seq", Long.class);
+        assertThat(get(second, "/api/products/" + nextId).statusCode()).isEqualTo(500);
+
+        String created = post(first, "/api/products", """
+            {"name": "초콜릿", "price": 10000, "imageUrl": "img.jpg", "categoryId": 1}
+            """);
+
+        assertThat(created).contains("\"id\":" + nextId + ",");
+        await(() -> get(second, "/api/products/" + nextId).statusCode() == 200);
+    }
+
+    @Test
+    void 잘못된_알림을_받아도_리스너는_계속_다음_알림을_처리한다() throws Exception {
+        assertThat(get(second, "/api/categories").body()).doesNotContain("뷰티");
+
+        first.getBean(JdbcTemplate.class).queryForList("SELECT pg_notify('gift_cache', 'UNKNOWN:1')");
+        post(first, "/api/categories", """
+            {"name": "뷰티"}
+            """);
+
+        await(() -> get(second, "/api/categories").body().contains("뷰티"));
+        assertThat(second.getBean(PostgresCacheInvalidationBus.class).isListening()).isTrue();
+    }
+
+    private ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" + URL,
+                "spring.datasource.username=" + USERNAME,
+                "spring.datasource.password=" + PASSWORD,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "gift.cache.invalidation.type=postgres"
+            )
+            .run();
+    }
+
+    private HttpResponse<String> get(ConfigurableApplicationContext context, String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(context, path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String post(ConfigurableApplicationContext context, String path, String body) throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri(context, path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    private static URI uri(ConfigurableApplicationContext context, String path) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path);
+    }
+
+    private static void await(Condition condition) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.met()) {
+            assertThat(System.nanoTime()).as("조건이 %s 안에 충족되어야 한다", TIMEOUT).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean met() throws Exception;
+    }
+}
@@ -0,0 +1,5 @@
+-- 스키마를 만들 때 한 번만 실행된다. 픽스처는 1,000,000 미만의 ID를 직접 쓰고, 생성 ID는 그 위에서 시작한다.
+ALTER SEQUENCE member_seq RESTART WITH 1000000;
+ALTER SEQUENCE category_seq RESTART WITH 1000000;
+ALTER SEQUENCE product_seq RESTART WITH 1000000;
+ALTER SEQUENCE option_seq RESTART WITH 1000000;
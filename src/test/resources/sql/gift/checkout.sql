@@ -0,0 +1,5 @@
+-- 시나리오: 세 옵션(각 재고 1000)을 서로 다른 순서로 담은 주문이 동시에 몰림
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1);
+INSERT INTO option (id, name, quantity, product_id) VALUES (1, '기본', 1000, 1);
+INSERT INTO option (id, name, quantity, product_id) VALUES (2, '선물 포장', 1000, 1);
+INSERT INTO option (id, name, quantity, product_id) VALUES (3, '대용량', 1000, 1);
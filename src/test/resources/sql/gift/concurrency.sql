@@ -0,0 +1,3 @@
+-- 시나리오: 재고(1000)보다 많은 선물 요청이 동시에 몰림
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 10000, 'img.jpg', 1);
+INSERT INTO option (id, name, quantity, product_id) VALUES (1, '기본', 1000, 1);
@@ -0,0 +1 @@
+-- H2 스키마는 테스트 JVM의 Hibernate가 만들며, 그때 import.sql이 시퀀스를 픽스처 ID 위로 올려 둔다.
@@ -1,7 +1,10 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 TRUNCATE TABLE wish;
 TRUNCATE TABLE option;
+TRUNCATE TABLE option_stock_shard;
 TRUNCATE TABLE product;
 TRUNCATE TABLE category;
 TRUNCATE TABLE member;
+TRUNCATE TABLE stock_reservation;
+TRUNCATE TABLE gift_outbox;
 SET REFERENTIAL_INTEGRITY TRUE;
@@ -1,2 +0,0 @@
-ALTER TABLE member ALTER COLUMN id RESTART WITH 3;
-ALTER TABLE category ALTER COLUMN id RESTART WITH 3;
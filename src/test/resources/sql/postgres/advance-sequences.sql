@@ -0,0 +1,5 @@
+-- 스키마를 앱 컨테이너가 만든 경우에도 시퀀스를 픽스처 ID 위로 한 번만 올린다. 뒤로는 되돌리지 않는다.
+SELECT setval('member_seq', 1000000, false) WHERE (SELECT last_value FROM member_seq) < 1000000;
+SELECT setval('category_seq', 1000000, false) WHERE (SELECT last_value FROM category_seq) < 1000000;
+SELECT setval('product_seq', 1000000, false) WHERE (SELECT last_value FROM product_seq) < 1000000;
+SELECT setval('option_seq', 1000000, false) WHERE (SELECT last_value FROM option_seq) < 1000000;
@@ -1 +1 @@
-TRUNCATE TABLE wish, option, product, category, member CASCADE;
+TRUNCATE TABLE wish, option_stock_shard, option, product, category, member, stock_reservation, gift_outbox CASCADE;
@@ -1,2 +0,0 @@
-ALTER SEQUENCE member_id_seq RESTART WITH 3;
-ALTER SEQUENCE category_id_seq RESTART WITH 3;
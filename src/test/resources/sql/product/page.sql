@@ -0,0 +1,6 @@
+-- 시나리오: 두 카테고리에 걸친 상품 5개, 가격이 같은 상품 포함
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (1, '초콜릿', 5000, 'img.jpg', 1);
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (2, '사탕', 3000, 'img.jpg', 1);
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (3, '양말', 2000, 'img.jpg', 2);
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (4, '젤리', 3000, 'img.jpg', 1);
+INSERT INTO product (id, name, price, image_url, category_id) VALUES (5, '껌', 1000, 'img.jpg', 1);